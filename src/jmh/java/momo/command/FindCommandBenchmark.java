@@ -0,0 +1,63 @@
+package momo.command;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import momo.exception.MomoException;
+import momo.parser.Parser;
+import momo.storage.Storage;
+import momo.task.TaskGenerator;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Measures executing a {@link FindCommand} over generated tasks, including rendering the
+ * matching tasks into the reply. Each keyword is parsed as the argument of a "find" command,
+ * so keywords starting with {@code -q} are queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindCommandBenchmark {
+    @Param({"100000"})
+    private int taskCount;
+
+    @Param({"1234", "-q report AND exam", "-q chap*", "ead ch"})
+    private String keyword;
+
+    private TaskList tasks;
+    private Ui ui;
+    private Storage storage;
+    private Command command;
+
+    /**
+     * Fills the list with generated tasks and builds the search indexes.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, MomoException {
+        tasks = new TaskGenerator().nextTaskList(taskCount);
+        ui = new Ui();
+        storage = new Storage(Files.createTempDirectory("momo-bench"));
+        command = Parser.parseToCommand("find " + keyword);
+        command.execute(tasks, ui, storage);
+    }
+
+    /**
+     * Finds the matching tasks and renders the reply.
+     */
+    @Benchmark
+    public String find() throws MomoException {
+        return command.execute(tasks, ui, storage);
+    }
+}
@@ -0,0 +1,79 @@
+package momo.command;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Compares rendering one page of the list through {@link ListCommand#writeTo} against
+ * formatting every task and joining them into one string, as the list command used to.
+ * Run with {@code -prof gc} to compare the bytes allocated per call as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListCommandBenchmark {
+    @Param({"100000", "1000000"})
+    private int taskCount;
+
+    private TaskList tasks;
+    private ListCommand lastPage;
+
+    /**
+     * Fills the list with todos, and deletes one so the list has an empty slot to skip.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        tasks = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.addTask(new Todo("read chapter " + i));
+        }
+        tasks.deleteTask(0);
+        lastPage = new ListCommand(ListCommand.Filter.ALL, (tasks.size() - 1) / ListCommand.DEFAULT_PAGE_SIZE + 1,
+                ListCommand.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Renders the first page.
+     */
+    @Benchmark
+    public StringBuilder firstPage() throws IOException {
+        StringBuilder out = new StringBuilder();
+        new ListCommand().writeTo(tasks, out);
+        return out;
+    }
+
+    /**
+     * Renders the last page, which has to be located past every other task.
+     */
+    @Benchmark
+    public StringBuilder lastPage() throws IOException {
+        StringBuilder out = new StringBuilder();
+        lastPage.writeTo(tasks, out);
+        return out;
+    }
+
+    /**
+     * Formats every task and joins them into one string.
+     */
+    @Benchmark
+    public String wholeList() {
+        return "Here are the tasks in your list:\n" + IntStream.range(0, tasks.size())
+                .mapToObj(x -> String.format("%d.%s", x + 1, tasks.getTask(x).toString()))
+                .collect(Collectors.joining("\n"));
+    }
+}
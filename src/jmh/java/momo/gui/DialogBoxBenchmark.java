@@ -0,0 +1,72 @@
+package momo.gui;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.application.Platform;
+
+/**
+ * Compares the cost of creating one reply bubble with {@link DialogBox}, which builds its
+ * nodes directly, against {@link LegacyDialogBox}, which loads them from FXML as the
+ * dialog box used to. Showing a message in a {@link DialogBox} that already exists, as a
+ * recycled list cell does, is measured as well.
+ *
+ * <p>Creating controls needs the JavaFX toolkit, so this benchmark needs a display, or the
+ * Monocle headless platform on the classpath as described in {@code BASELINE.md}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DialogBoxBenchmark {
+    private static final String REPLY = "Got it. I've added this task:\n  [T][ ] read chapter 1\n"
+            + "Now you have 1 task in the list.";
+
+    private final Message message = Message.fromMomo(REPLY, "AddTodoCommand");
+    private DialogBox recycled;
+
+    /**
+     * Starts the JavaFX toolkit, unless an earlier trial in this fork already has.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException e) {
+            // The toolkit is already running.
+        }
+        recycled = new DialogBox();
+    }
+
+    /**
+     * Loads a reply bubble from FXML.
+     */
+    @Benchmark
+    public LegacyDialogBox loadFromFxml() {
+        return LegacyDialogBox.getMomoDialog(REPLY, null, "AddTodoCommand");
+    }
+
+    /**
+     * Builds a reply bubble directly.
+     */
+    @Benchmark
+    public DialogBox build() {
+        return DialogBox.getMomoDialog(REPLY, null, "AddTodoCommand");
+    }
+
+    /**
+     * Shows a reply in an existing bubble.
+     */
+    @Benchmark
+    public DialogBox reuse() {
+        recycled.show(message, null);
+        return recycled;
+    }
+}
@@ -0,0 +1,48 @@
+package momo.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import momo.command.Command;
+import momo.exception.MomoException;
+
+/**
+ * Compares {@link Parser#parseToCommand(String)} against the {@link LegacyParser}
+ * that splits the input with {@link String#split}.
+ * Run with {@code -prof gc} to compare the allocation rate as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    @Param({
+        "todo read chapter 1 of textbook",
+        "deadline CS2103T Assignment /by 2025-09-25 2359",
+        "event hackathon /from 2025-09-20 0900 /to 2025-09-21 1800",
+        "mark 2"
+    })
+    private String input;
+
+    /**
+     * Parses the input with the single-pass lexer.
+     */
+    @Benchmark
+    public Command commandLexer() throws MomoException {
+        return Parser.parseToCommand(input);
+    }
+
+    /**
+     * Parses the input with the chained {@link String#split} calls.
+     */
+    @Benchmark
+    public Command stringSplit() throws MomoException {
+        return LegacyParser.parseToCommand(input);
+    }
+}
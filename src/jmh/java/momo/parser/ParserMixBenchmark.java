@@ -0,0 +1,62 @@
+package momo.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import momo.command.Command;
+import momo.exception.MomoException;
+import momo.task.Task;
+import momo.task.TaskGenerator;
+
+/**
+ * Measures {@link Parser#parseToCommand(String)} and {@link Parser#parseToTask(String)} over
+ * a generated mix of inputs, so one number covers every kind of command and save line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserMixBenchmark {
+    private static final int INPUT_COUNT = 4096;
+
+    private final String[] commandLines = new String[INPUT_COUNT];
+    private final String[] saveLines = new String[INPUT_COUNT];
+    private int next;
+
+    /**
+     * Generates the command lines and save lines.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        TaskGenerator generator = new TaskGenerator();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            commandLines[i] = generator.nextCommandLine(INPUT_COUNT);
+            saveLines[i] = generator.nextSaveLine();
+        }
+    }
+
+    /**
+     * Parses the next command line.
+     */
+    @Benchmark
+    public Command parseToCommand() throws MomoException {
+        next = (next + 1) & (INPUT_COUNT - 1);
+        return Parser.parseToCommand(commandLines[next]);
+    }
+
+    /**
+     * Parses the next save line.
+     */
+    @Benchmark
+    public Task parseToTask() throws MomoException {
+        next = (next + 1) & (INPUT_COUNT - 1);
+        return Parser.parseToTask(saveLines[next]);
+    }
+}
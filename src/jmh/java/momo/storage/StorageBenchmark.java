@@ -0,0 +1,88 @@
+package momo.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import momo.task.TaskGenerator;
+import momo.task.TaskList;
+
+/**
+ * Measures saving generated tasks as a snapshot with {@link Storage#save(TaskList)} and
+ * loading them back with {@link Storage#load(TaskList)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"10000", "1000000"})
+    private int taskCount;
+
+    private Path directory;
+    private Storage storage;
+    private TaskList tasks;
+
+    /**
+     * Generates the tasks and saves them once, so there is a snapshot to load.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("momo-bench");
+        storage = new Storage(directory);
+        tasks = new TaskGenerator().nextTaskList(taskCount);
+        storage.save(tasks);
+    }
+
+    /**
+     * Deletes the data directory.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Saves the tasks as a new snapshot.
+     */
+    @Benchmark
+    public void save() {
+        storage.save(tasks);
+    }
+
+    /**
+     * Loads the tasks from the latest snapshot.
+     */
+    @Benchmark
+    public TaskList load() {
+        TaskList loaded = new TaskList();
+        storage.load(loaded);
+        return loaded;
+    }
+
+    /**
+     * Saves the tasks and loads them back.
+     */
+    @Benchmark
+    public TaskList roundTrip() {
+        storage.save(tasks);
+        return load();
+    }
+}
@@ -0,0 +1,92 @@
+package momo.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import momo.exception.MomoException;
+import momo.parser.Parser;
+import momo.task.TaskList;
+
+/**
+ * Compares loading a large text save file with {@link TextTaskLoader} against
+ * reading it with {@link Files#readAllLines(Path)} and parsing it line by line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextTaskLoaderBenchmark {
+    @Param({"1000000", "10000000"})
+    private int lineCount;
+
+    private Path filePath;
+
+    /**
+     * Writes a save file with a mix of todos, deadlines and events.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        filePath = Files.createTempFile("momo-bench", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
+            for (int i = 0; i < lineCount; i++) {
+                switch (i % 3) {
+                case 0:
+                    writer.write("T | 0 | read chapter " + i);
+                    break;
+                case 1:
+                    writer.write("D | 1 | submit report " + i + " | 2025-09-25 2359");
+                    break;
+                default:
+                    writer.write("E | 0 | workshop " + i + " | 2025-09-20 0900 | 2025-09-21 1800");
+                    break;
+                }
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Deletes the save file.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Loads the file with the parallel chunked loader.
+     */
+    @Benchmark
+    public TaskList textTaskLoader() throws IOException {
+        TaskList tasks = new TaskList();
+        new TextTaskLoader().load(filePath, tasks);
+        return tasks;
+    }
+
+    /**
+     * Loads the file the way it was loaded before, reading every line into memory first.
+     */
+    @Benchmark
+    public TaskList readAllLines() throws IOException, MomoException {
+        TaskList tasks = new TaskList();
+        List<String> lines = Files.readAllLines(filePath);
+        for (String line : lines) {
+            tasks.addTask(Parser.parseToTask(line));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,57 @@
+package momo.task;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures formatting deadlines and events for display with {@code toString} and for
+ * saving with {@code convertToSaveFormat}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskFormatBenchmark {
+    private final Deadline deadline = new Deadline("CS2103T Assignment",
+            LocalDateTime.of(2025, 9, 25, 23, 59));
+    private final Event event = new Event("hackathon",
+            LocalDateTime.of(2025, 9, 20, 9, 0), LocalDateTime.of(2025, 9, 21, 18, 0));
+
+    /**
+     * Formats a deadline for display.
+     */
+    @Benchmark
+    public String deadlineToString() {
+        return deadline.toString();
+    }
+
+    /**
+     * Formats an event for display.
+     */
+    @Benchmark
+    public String eventToString() {
+        return event.toString();
+    }
+
+    /**
+     * Formats a deadline for saving.
+     */
+    @Benchmark
+    public String deadlineSaveFormat() {
+        return deadline.convertToSaveFormat();
+    }
+
+    /**
+     * Formats an event for saving.
+     */
+    @Benchmark
+    public String eventSaveFormat() {
+        return event.convertToSaveFormat();
+    }
+}
@@ -0,0 +1,143 @@
+package momo.task;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/**
+ * Generates synthetic tasks, save lines and command lines for the benchmarks.
+ *
+ * <p>Half of the tasks are todos, three in ten are deadlines and the rest are events, and
+ * a quarter of them are done. Descriptions are three to five words drawn from a small
+ * vocabulary followed by a number, and dates fall within 60 days of 1 September 2025.
+ * Generators created with the same seed produce the same data, so runs can be compared.</p>
+ */
+public class TaskGenerator {
+    /** The seed used by the benchmarks. */
+    public static final long SEED = 2103;
+
+    private static final String[] WORDS = {
+        "read", "chapter", "submit", "report", "buy", "groceries", "call", "mum", "team", "meeting",
+        "project", "review", "lecture", "tutorial", "assignment", "quiz", "gym", "dinner", "book", "exam"
+    };
+    private static final LocalDateTime START = LocalDateTime.of(2025, 9, 1, 0, 0);
+    private static final int SPAN_MINUTES = 60 * 24 * 60;
+    private static final DateTimeFormatter COMMAND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    private final Random random;
+    private int count;
+
+    /**
+     * Creates a generator with the seed used by the benchmarks.
+     */
+    public TaskGenerator() {
+        this(SEED);
+    }
+
+    /**
+     * Creates a generator with the given seed.
+     *
+     * @param seed the seed of the random numbers.
+     */
+    public TaskGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Returns a new task that has not been added to any list.
+     *
+     * @return a todo, deadline or event.
+     */
+    public Task nextTask() {
+        String description = nextDescription();
+        boolean isDone = random.nextInt(4) == 0;
+        int kind = random.nextInt(10);
+        if (kind < 5) {
+            return new Todo(description, isDone);
+        }
+        LocalDateTime from = nextDateTime();
+        if (kind < 8) {
+            return new Deadline(description, from, isDone);
+        }
+        return new Event(description, from, from.plusMinutes(30 + 30 * random.nextInt(8)), isDone);
+    }
+
+    /**
+     * Returns a list holding the given number of new tasks.
+     *
+     * @param taskCount the number of tasks.
+     * @return the task list.
+     */
+    public TaskList nextTaskList(int taskCount) {
+        return nextTaskList(taskCount, new ObjectTaskStore());
+    }
+
+    /**
+     * Returns a list holding the given number of new tasks, kept in the given store.
+     *
+     * @param taskCount the number of tasks.
+     * @param store the empty store to keep the tasks in.
+     * @return the task list.
+     */
+    public TaskList nextTaskList(int taskCount, TaskStore store) {
+        TaskList tasks = new TaskList(store);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.addTask(nextTask());
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns a new task in the format used by text save files.
+     *
+     * @return the save line.
+     */
+    public String nextSaveLine() {
+        return nextTask().convertToSaveFormat();
+    }
+
+    /**
+     * Returns a command as a user would type it. Most commands add a task, and the rest
+     * mark, find or list tasks among the first {@code taskCount} tasks.
+     *
+     * @param taskCount the number of tasks the command may refer to.
+     * @return the command line.
+     */
+    public String nextCommandLine(int taskCount) {
+        int kind = random.nextInt(10);
+        if (kind < 7) {
+            return toCommandLine(nextTask());
+        } else if (kind < 8) {
+            return "mark " + (random.nextInt(taskCount) + 1);
+        } else if (kind < 9) {
+            return "find " + WORDS[random.nextInt(WORDS.length)];
+        } else {
+            return "list";
+        }
+    }
+
+    private static String toCommandLine(Task task) {
+        if (task instanceof Deadline) {
+            Deadline deadline = (Deadline) task;
+            return "deadline " + task.getDescription() + " /by " + deadline.getBy().format(COMMAND_FORMAT);
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            return "event " + task.getDescription() + " /from " + event.getFrom().format(COMMAND_FORMAT)
+                    + " /to " + event.getTo().format(COMMAND_FORMAT);
+        }
+        return "todo " + task.getDescription();
+    }
+
+    private String nextDescription() {
+        StringBuilder description = new StringBuilder();
+        int wordCount = 3 + random.nextInt(3);
+        for (int i = 0; i < wordCount; i++) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return description.append(count++).toString();
+    }
+
+    private LocalDateTime nextDateTime() {
+        return START.plusMinutes(random.nextInt(SPAN_MINUTES / 30) * 30L);
+    }
+}
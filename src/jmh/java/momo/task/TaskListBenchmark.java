@@ -0,0 +1,85 @@
+package momo.task;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures getting, adding and deleting tasks in a {@link TaskList} of generated tasks,
+ * kept in an {@link ObjectTaskStore} or a {@link CompactTaskStore}.
+ * Each benchmark that changes the list undoes its change, so the list keeps its size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskListBenchmark {
+    private static final int INDEX_COUNT = 4096;
+
+    @Param({"1000", "100000", "10000000"})
+    private int taskCount;
+
+    @Param({"object", "compact"})
+    private String store;
+
+    private TaskList tasks;
+    private final int[] indexes = new int[INDEX_COUNT];
+    private Task spare;
+    private int next;
+
+    /**
+     * Fills the list with generated tasks and picks the random indexes to visit.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        TaskGenerator generator = new TaskGenerator();
+        tasks = generator.nextTaskList(taskCount,
+                store.equals("compact") ? new CompactTaskStore() : new ObjectTaskStore());
+        spare = generator.nextTask();
+        Random random = new Random(TaskGenerator.SEED);
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indexes[i] = random.nextInt(taskCount);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (INDEX_COUNT - 1);
+        return indexes[next];
+    }
+
+    /**
+     * Gets the task at a random index.
+     */
+    @Benchmark
+    public Task get() {
+        return tasks.getTask(nextIndex());
+    }
+
+    /**
+     * Adds a task at the end and deletes it again.
+     */
+    @Benchmark
+    public Task addThenDeleteLast() {
+        tasks.addTask(spare);
+        return tasks.deleteTask(tasks.size() - 1);
+    }
+
+    /**
+     * Deletes the task at a random index and adds it back at the end, which leaves
+     * an empty slot behind until the list is compacted.
+     */
+    @Benchmark
+    public Task deleteThenAdd() {
+        Task task = tasks.deleteTask(nextIndex());
+        tasks.addTask(task);
+        return task;
+    }
+}
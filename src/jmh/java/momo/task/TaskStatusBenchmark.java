@@ -0,0 +1,76 @@
+package momo.task;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares counting and listing tasks by status through the done-slot bit set of
+ * {@link TaskList} against reading {@link Task#isDone()} from every task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskStatusBenchmark {
+    @Param({"1000000"})
+    private int taskCount;
+
+    @Param({"0.01", "0.5"})
+    private double doneFraction;
+
+    private TaskList tasks;
+
+    /**
+     * Fills the list with todos, the given fraction of which are done.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2103);
+        tasks = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.addTask(new Todo("task " + i, random.nextDouble() < doneFraction));
+        }
+    }
+
+    /**
+     * Counts the done tasks with a population count over the bit set.
+     */
+    @Benchmark
+    public int countDoneBitSet() {
+        return tasks.countDone();
+    }
+
+    /**
+     * Counts the done tasks by reading every task.
+     */
+    @Benchmark
+    public long countDoneScan() {
+        return tasks.stream().filter(Task::isDone).count();
+    }
+
+    /**
+     * Lists the done tasks by iterating over the set bits.
+     */
+    @Benchmark
+    public List<Task> listDoneBitSet() {
+        return tasks.stream(true).toList();
+    }
+
+    /**
+     * Lists the done tasks by reading every task.
+     */
+    @Benchmark
+    public List<Task> listDoneScan() {
+        return tasks.stream().filter(Task::isDone).toList();
+    }
+}
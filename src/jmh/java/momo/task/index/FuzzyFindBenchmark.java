@@ -0,0 +1,86 @@
+package momo.task.index;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Compares finding tasks with words similar to a misspelt word through the {@link BkTree}
+ * in the {@link TokenIndex} against computing the edit distance to every word of every task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FuzzyFindBenchmark {
+    private static final int VOCABULARY_SIZE = 50_000;
+    private static final int WORDS_PER_TASK = 4;
+    private static final int MAX_DISTANCE = 2;
+
+    @Param({"1000000"})
+    private int taskCount;
+
+    private TaskList tasks;
+    private String target;
+
+    /**
+     * Fills the list with todos made of random words, builds the index and picks a
+     * misspelt version of one of the words as the target.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2103);
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 4 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            vocabulary[i] = word.toString();
+        }
+        tasks = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            StringBuilder description = new StringBuilder();
+            for (int j = 0; j < WORDS_PER_TASK; j++) {
+                description.append(j == 0 ? "" : " ").append(vocabulary[random.nextInt(VOCABULARY_SIZE)]);
+            }
+            tasks.addTask(new Todo(description.toString()));
+        }
+        tasks.getTokenIndex();
+        target = vocabulary[0].substring(1);
+    }
+
+    /**
+     * Finds the tasks through the BK-tree over the vocabulary.
+     */
+    @Benchmark
+    public List<long[]> bkTree() {
+        return tasks.getTokenIndex().findSimilar(target, MAX_DISTANCE);
+    }
+
+    /**
+     * Finds the tasks by computing the edit distance to every word of every task.
+     */
+    @Benchmark
+    public long[] linearScan() {
+        return tasks.stream()
+                .filter(task -> TokenIndex.tokenize(task.getDescription()).stream()
+                        .anyMatch(word -> BkTree.distance(target, word) <= MAX_DISTANCE))
+                .mapToLong(Task::getId)
+                .toArray();
+    }
+}
@@ -0,0 +1,84 @@
+package momo.task.index;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import momo.task.DateTimeCodec;
+import momo.task.Event;
+import momo.task.Task;
+import momo.task.TaskList;
+
+/**
+ * Compares finding the events that overlap a new event through the {@link IntervalIndex}
+ * against checking every event, as {@code AddEventCommand} would otherwise have to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IntervalIndexBenchmark {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int MINUTES_PER_YEAR = 365 * 24 * 60;
+
+    @Param({"50000", "1000000"})
+    private int eventCount;
+
+    private TaskList tasks;
+    private long fromMinute;
+    private long toMinute;
+
+    /**
+     * Fills the list with events of up to three hours spread over a year, and builds the index.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2103);
+        tasks = new TaskList();
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime from = START.plusMinutes(random.nextInt(MINUTES_PER_YEAR));
+            tasks.addTask(new Event("event " + i, from, from.plusMinutes(30 + random.nextInt(150))));
+        }
+        tasks.getIntervalIndex();
+        fromMinute = DateTimeCodec.toEpochMinute(START.plusDays(180).plusHours(9));
+        toMinute = fromMinute + 120;
+    }
+
+    /**
+     * Finds the overlapping events through the interval tree.
+     */
+    @Benchmark
+    public long[] intervalIndex() {
+        return tasks.getIntervalIndex().findOverlapping(fromMinute, toMinute);
+    }
+
+    /**
+     * Finds the free slots of at least an hour on a day through the interval tree.
+     */
+    @Benchmark
+    public List<long[]> freeSlots() {
+        return tasks.getIntervalIndex().findFreeSlots(fromMinute, fromMinute + 24 * 60, 60);
+    }
+
+    /**
+     * Finds the overlapping events by checking every event.
+     */
+    @Benchmark
+    public long[] linearScan() {
+        return tasks.stream()
+                .filter(task -> DateTimeCodec.toEpochMinute(((Event) task).getFrom()) < toMinute
+                        && DateTimeCodec.toEpochMinute(((Event) task).getTo()) > fromMinute)
+                .mapToLong(Task::getId)
+                .toArray();
+    }
+}
@@ -0,0 +1,78 @@
+package momo.task.index;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import momo.task.DateTimeCodec;
+import momo.task.Deadline;
+import momo.task.Task;
+import momo.task.TaskList;
+
+/**
+ * Compares finding the deadlines due in a week through the {@link TimeIndex} against
+ * checking the due time of every task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimeIndexBenchmark {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int MINUTES_PER_YEAR = 365 * 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * 24 * 60;
+
+    @Param({"1000000"})
+    private int taskCount;
+
+    private TaskList tasks;
+    private long fromMinute;
+    private long toMinute;
+
+    /**
+     * Fills the list with deadlines spread over a year, and builds the index.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2103);
+        tasks = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.addTask(new Deadline("task " + i, START.plusMinutes(random.nextInt(MINUTES_PER_YEAR))));
+        }
+        tasks.getTimeIndex();
+        fromMinute = DateTimeCodec.toEpochMinute(START.plusWeeks(20));
+        toMinute = fromMinute + MINUTES_PER_WEEK;
+    }
+
+    /**
+     * Finds the deadlines through the sorted map of due times.
+     */
+    @Benchmark
+    public long[] timeIndex() {
+        return tasks.getTimeIndex().findDeadlines(fromMinute, toMinute);
+    }
+
+    /**
+     * Finds the deadlines by checking every task.
+     */
+    @Benchmark
+    public long[] linearScan() {
+        return tasks.stream()
+                .filter(task -> task instanceof Deadline)
+                .filter(task -> {
+                    long minute = DateTimeCodec.toEpochMinute(((Deadline) task).getBy());
+                    return minute >= fromMinute && minute <= toMinute;
+                })
+                .mapToLong(Task::getId)
+                .toArray();
+    }
+}
@@ -0,0 +1,89 @@
+package momo.task.index;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Compares answering a find query from the {@link TokenIndex} against scanning every
+ * task in the list and splitting its description into words.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenIndexBenchmark {
+    private static final int VOCABULARY_SIZE = 20_000;
+    private static final int WORDS_PER_TASK = 4;
+
+    @Param({"1000000"})
+    private int taskCount;
+
+    @Param({"w123", "w123 AND w456", "w123 OR w456", "w1234*"})
+    private String keyword;
+
+    private TaskList tasks;
+    private TokenQuery query;
+
+    /**
+     * Fills the list with todos made of random words, and builds the index.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2103);
+        tasks = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            StringBuilder description = new StringBuilder();
+            for (int j = 0; j < WORDS_PER_TASK; j++) {
+                description.append(j == 0 ? "" : " ").append('w').append(random.nextInt(VOCABULARY_SIZE));
+            }
+            tasks.addTask(new Todo(description.toString()));
+        }
+        tasks.getTokenIndex();
+        query = TokenQuery.parse(keyword);
+    }
+
+    /**
+     * Answers the query from the posting lists.
+     */
+    @Benchmark
+    public long[] tokenIndex() {
+        return tasks.getTokenIndex().search(query);
+    }
+
+    /**
+     * Answers the query by checking the words of every task.
+     */
+    @Benchmark
+    public long[] linearScan() {
+        return tasks.stream()
+                .filter(task -> matches(task, query))
+                .mapToLong(Task::getId)
+                .toArray();
+    }
+
+    private static boolean matches(Task task, TokenQuery query) {
+        List<String> words = TokenIndex.tokenize(task.getDescription());
+        for (List<TokenQuery.Term> terms : query.getGroups()) {
+            if (terms.stream().allMatch(term -> words.stream().anyMatch(word -> term.isPrefix
+                    ? word.startsWith(term.token)
+                    : word.equals(term.token)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+package momo.task.index;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Compares finding tasks by substring through the {@link TrigramIndex} against
+ * checking every description with {@link String#contains}.
+ * The estimated size of the index is printed once it has been built.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrigramIndexBenchmark {
+    private static final String[] WORDS = {
+        "read", "submit", "meeting", "project", "report", "lecture", "review", "buy", "call", "plan"
+    };
+
+    @Param({"1000000"})
+    private int taskCount;
+
+    @Param({"meet", "report 4217", "ture 99"})
+    private String keyword;
+
+    private TaskList tasks;
+
+    /**
+     * Fills the list with todos made of a common word and a number, and builds the index.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2103);
+        tasks = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.addTask(new Todo(WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(taskCount)));
+        }
+        TrigramIndex index = tasks.getTrigramIndex();
+        System.out.println("Trigram index: " + index.getGramCount() + " trigrams, about "
+                + index.estimateMemoryBytes() / (1024 * 1024) + " MiB");
+    }
+
+    /**
+     * Finds the tasks by checking only the candidates from the trigram index.
+     */
+    @Benchmark
+    public List<Task> trigramIndex() {
+        long[] ids = tasks.getTrigramIndex().findCandidates(keyword);
+        return Arrays.stream(ids)
+                .mapToObj(tasks::getTaskById)
+                .filter(task -> task.getDescription().contains(keyword))
+                .toList();
+    }
+
+    /**
+     * Finds the tasks by checking every description.
+     */
+    @Benchmark
+    public List<Task> linearScan() {
+        return tasks.stream()
+                .filter(task -> task.getDescription().contains(keyword))
+                .toList();
+    }
+}
@@ -0,0 +1,94 @@
+package momo;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Handles user inputs one at a time on a dedicated background thread.
+ *
+ * <p>Inputs are handled in the order they are submitted, and each response is passed to
+ * its callback through the callback executor, such as {@code Platform::runLater} for the
+ * GUI, so parsing, executing and saving never hold up the thread that submits them. Once
+ * an input makes the application exit, the inputs submitted after it are ignored.</p>
+ */
+public class CommandRunner implements AutoCloseable {
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final Function<String, Response> handler;
+    private final Executor callbackExecutor;
+    private final ExecutorService worker;
+    private boolean isExiting;
+
+    /**
+     * Creates a new {@code CommandRunner} and starts its background thread.
+     *
+     * @param handler the function that handles one input, such as {@link Momo#handle}.
+     * @param callbackExecutor the executor that runs the callbacks given to {@link #submit}.
+     */
+    public CommandRunner(Function<String, Response> handler, Executor callbackExecutor) {
+        this.handler = handler;
+        this.callbackExecutor = callbackExecutor;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "momo-command-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues an input to be handled after every input submitted before it.
+     *
+     * <p>If handling the input fails unexpectedly, the callback is given a response with the
+     * command type "Error", so the caller is never left waiting for a response.</p>
+     *
+     * @param input the raw user input string.
+     * @param onResponse the callback given the response, unless an earlier input made the
+     *         application exit.
+     */
+    public void submit(String input, Consumer<Response> onResponse) {
+        worker.execute(() -> {
+            if (isExiting) {
+                return;
+            }
+            Response response;
+            try {
+                response = handler.apply(input);
+            } catch (RuntimeException e) {
+                response = new Response("Something went wrong: " + e.getMessage(), "Error", false);
+            }
+            isExiting = response.isExit();
+            Response result = response;
+            callbackExecutor.execute(() -> onResponse.accept(result));
+        });
+    }
+
+    /**
+     * Stops accepting inputs and waits a few seconds for the inputs already submitted to be
+     * handled, so their changes are saved before the application exits.
+     *
+     * @return {@code true} if every input was handled, or {@code false} if one is still
+     *         running, in which case the handler may still be using what it shares.
+     */
+    public boolean shutdown() {
+        worker.shutdown();
+        try {
+            return worker.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting inputs and waits a few seconds for the inputs already submitted to be
+     * handled, as {@link #shutdown()} does.
+     */
+    @Override
+    public void close() {
+        shutdown();
+    }
+}
@@ -1,10 +1,19 @@
 package momo;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import momo.command.BatchRunner;
 import momo.command.Command;
 import momo.exception.MomoException;
-import momo.parser.Parser;
+import momo.metrics.Metrics;
+import momo.parser.CommandCache;
 import momo.storage.Storage;
+import momo.task.CompactTaskStore;
+import momo.task.ObjectTaskStore;
 import momo.task.TaskList;
+import momo.task.TaskStore;
 import momo.ui.Ui;
 
 /**
@@ -13,6 +22,22 @@ import momo.ui.Ui;
  * and the main input-processing loop.
  */
 public class Momo {
+    /** The system property that selects how tasks are kept in memory: "object", "compact" or "auto". */
+    static final String STORE_PROPERTY = "momo.store";
+    static final String OBJECT_STORE = "object";
+    static final String COMPACT_STORE = "compact";
+    static final String AUTO_STORE = "auto";
+
+    /**
+     * The number of saved tasks from which "auto" keeps tasks in a {@link CompactTaskStore}.
+     * Below it, the few megabytes saved do not make up for building a task on every read.
+     */
+    static final int COMPACT_STORE_THRESHOLD = 1_000_000;
+
+    private static final int COMMAND_CACHE_CAPACITY = 32;
+    private static final String METRICS_FILE_NAME = "metrics.txt";
+    private static final long METRICS_DUMP_INTERVAL_SECONDS = 60;
+
     /** Handles saving and loading tasks to/from the local file system. */
     private final Storage storage;
 
@@ -22,6 +47,12 @@ public class Momo {
     /** Handles all user interactions and displays messages. */
     private final Ui ui;
 
+    /** Holds the commands parsed from recent inputs, so repeated inputs are not parsed again. */
+    private final CommandCache commandCache;
+
+    /** Records how long each command takes and how much it allocates. */
+    private final Metrics metrics = Metrics.getGlobal();
+
     /** Stores the type of the last executed command as a string. */
     private String commandType;
 
@@ -30,26 +61,44 @@ public class Momo {
      * Loads tasks from storage if available and displays initialization messages.
      */
     public Momo() {
-        storage = new Storage();
-        tasks = new TaskList();
+        this(new Storage());
+    }
+
+    /**
+     * Initializes the Momo application with its data kept in the given directory.
+     *
+     * @param directoryPath the directory to keep the saved tasks in.
+     */
+    public Momo(Path directoryPath) {
+        this(new Storage(directoryPath));
+    }
+
+    private Momo(Storage storage) {
+        this.storage = storage;
+        tasks = new TaskList(createTaskStore(System.getProperty(STORE_PROPERTY, AUTO_STORE), storage));
         ui = new Ui();
+        commandCache = new CommandCache(COMMAND_CACHE_CAPACITY);
         storage.load(tasks);
     }
 
     /**
-     * Determines whether the given user input corresponds to an exit command.
+     * Creates the store to keep the tasks in, as selected by the {@code momo.store} system property.
+     * "auto" and unknown values pick a {@link CompactTaskStore} when the latest snapshot holds at
+     * least {@link #COMPACT_STORE_THRESHOLD} tasks, and an {@link ObjectTaskStore} otherwise.
      *
-     * @param input the raw user input string.
-     * @return {@code true} if the input corresponds to a command that exits the application,
-     *         {@code false} otherwise.
+     * @param storeName the value of the system property.
+     * @param storage the storage the tasks are about to be loaded from.
+     * @return a new, empty store.
      */
-    public boolean isExit(String input) {
-        try {
-            String trimmedInput = ui.readCommand(input);
-            Command command = Parser.parseToCommand(trimmedInput);
-            return command.isExit();
-        } catch (MomoException e) {
-            return false;
+    static TaskStore createTaskStore(String storeName, Storage storage) {
+        switch (storeName) {
+        case OBJECT_STORE:
+            return new ObjectTaskStore();
+        case COMPACT_STORE:
+            return new CompactTaskStore();
+        default:
+            boolean isLarge = storage.countSavedTasks() >= COMPACT_STORE_THRESHOLD;
+            return isLarge ? new CompactTaskStore() : new ObjectTaskStore();
         }
     }
 
@@ -62,27 +111,98 @@ public class Momo {
         return ui.getWelcomeMessage();
     }
 
+    /**
+     * Parses and executes the user input once, and returns everything needed to display the result.
+     *
+     * <p>If a {@link MomoException} occurs during parsing or execution, the response holds
+     * the error message and the command type "Error".</p>
+     *
+     * <p>The time taken to parse and to execute the input, and the bytes allocated while
+     * handling it, are recorded in the {@link Metrics} under the command type.</p>
+     *
+     * @param input the raw user input string.
+     * @return the response to the user input.
+     */
+    public Response handle(String input) {
+        long start = System.nanoTime();
+        long allocatedBefore = Metrics.getAllocatedBytes();
+        long parsed = 0;
+        Response response;
+        try {
+            String trimmedInput = ui.readCommand(input);
+            Command command = commandCache.parse(trimmedInput);
+            parsed = System.nanoTime();
+            String text = Command.executeRecorded(command, tasks, ui, storage);
+            response = new Response(text, command.getClass().getSimpleName(), command.isExit());
+        } catch (MomoException e) {
+            response = new Response(e.getMessage(), "Error", false);
+        }
+        long end = System.nanoTime();
+        if (parsed == 0) {
+            parsed = end;
+        }
+        long allocated = allocatedBefore < 0 ? -1 : Metrics.getAllocatedBytes() - allocatedBefore;
+        metrics.recordCommand(response.getCommandType(), parsed - start, end - parsed, allocated);
+        commandType = response.getCommandType();
+        return response;
+    }
+
     /**
      * Processes user input and generates a response.
      *
-     * <p>This method parses the input into a command, executes it, updates the
-     * {@code commandType} field for GUI styling, and returns the response string.
-     * If a {@link MomoException} occurs during parsing or execution, it returns
-     * the error message and sets {@code commandType} to "Error".</p>
+     * <p>This method is equivalent to {@code handle(input).getText()}, and also updates the
+     * {@code commandType} field for GUI styling.</p>
      *
      * @param input The raw user input string.
      * @return A string containing the response to the user input, or an error message if an exception occurs.
      */
     public String getResponse(String input) {
+        return handle(input).getText();
+    }
+
+    /**
+     * Runs every command read from the reader as one batch, as the "run" command does for a file.
+     *
+     * @param reader the reader to read commands from, one per line.
+     * @return the summary of the batch, listing the lines that failed.
+     * @throws IOException if the input cannot be read.
+     * @throws MomoException if the changes could not be saved.
+     */
+    public String runBatch(BufferedReader reader) throws IOException, MomoException {
+        return new BatchRunner(tasks, ui, storage, BatchRunner.FLUSH_INTERVAL).run(reader, "standard input");
+    }
+
+    /**
+     * Waits until every change made so far has been saved.
+     * Should be called before exiting without the "bye" command.
+     *
+     * @throws MomoException if some changes could not be saved.
+     */
+    public void flush() throws MomoException {
+        storage.flush();
+    }
+
+    /**
+     * Starts writing the metrics to {@code metrics.txt} in the data directory every minute.
+     * {@link #close()} stops it.
+     */
+    public void startMetricsDump() {
+        metrics.startPeriodicDump(storage.getDirectoryPath().resolve(METRICS_FILE_NAME),
+                METRICS_DUMP_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Saves every change made so far and waits for any snapshot still being written, then
+     * stops the metrics dump after writing the metrics one last time.
+     * Should be the last call made before exiting.
+     *
+     * @throws MomoException if some changes could not be saved.
+     */
+    public void close() throws MomoException {
         try {
-            String trimmedInput = ui.readCommand(input);
-            Command command = Parser.parseToCommand(trimmedInput);
-            String response = command.execute(tasks, ui, storage);
-            commandType = command.getClass().getSimpleName();
-            return response;
-        } catch (MomoException e) {
-            commandType = "Error";
-            return e.getMessage();
+            storage.close();
+        } finally {
+            metrics.stopPeriodicDump();
         }
     }
 
@@ -0,0 +1,36 @@
+package momo;
+
+/**
+ * Represents the result of handling one line of user input.
+ * Holds everything the GUI needs to display the reply, so the input is only parsed and executed once.
+ */
+public class Response {
+    private final String text;
+    private final String commandType;
+    private final boolean isExit;
+
+    /**
+     * Creates a new {@code Response}.
+     *
+     * @param text the reply to show to the user.
+     * @param commandType the simple class name of the executed command, or "Error" if it failed.
+     * @param isExit whether the application should exit after showing the reply.
+     */
+    public Response(String text, String commandType, boolean isExit) {
+        this.text = text;
+        this.commandType = commandType;
+        this.isExit = isExit;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public String getCommandType() {
+        return commandType;
+    }
+
+    public boolean isExit() {
+        return isExit;
+    }
+}
@@ -0,0 +1,168 @@
+package momo.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+import momo.Momo;
+import momo.Response;
+import momo.exception.MomoException;
+
+/**
+ * Runs Momo in the terminal, reading commands from standard input and writing the
+ * replies to standard output.
+ *
+ * <p>This mode never loads JavaFX, FXML or images, so it starts in a fraction of the time
+ * the GUI takes and can be used in shell pipelines. The welcome message is only shown when
+ * Momo is run in an interactive terminal, so piped output holds nothing but the replies.
+ * Reading stops at the "bye" command or at the end of the input, and every change is
+ * saved before Momo exits.</p>
+ *
+ * <p>With {@value #BATCH_FLAG}, the input is run as one batch instead, as the "run" command
+ * does for a file: only a summary is printed, listing the lines that failed. With
+ * {@value #METRICS_FLAG}, the metrics are written to the data directory every minute and
+ * once more before Momo exits.</p>
+ */
+public class Cli {
+    /** The argument that selects this mode. */
+    public static final String FLAG = "--cli";
+
+    /** The argument that prints how long Momo took to start to standard error. */
+    public static final String TIMING_FLAG = "--timing";
+
+    /** The argument that runs the input as one batch. */
+    public static final String BATCH_FLAG = "--batch";
+
+    /** The argument that writes the metrics to the data directory while Momo runs. */
+    public static final String METRICS_FLAG = "--metrics";
+
+    private final Momo momo;
+
+    /**
+     * Creates a new {@code Cli}.
+     *
+     * @param momo the Momo instance that handles each command.
+     */
+    public Cli(Momo momo) {
+        this.momo = momo;
+    }
+
+    /**
+     * Handles every line of the input in turn, writing each reply to the output.
+     * Blank lines are skipped.
+     *
+     * @param in the reader to read commands from.
+     * @param out the stream to write replies to.
+     * @param isInteractive whether to greet the user first.
+     * @throws IOException if the input cannot be read.
+     */
+    public void run(BufferedReader in, PrintStream out, boolean isInteractive) throws IOException {
+        if (isInteractive) {
+            out.println(momo.getWelcomeMessage());
+        }
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Response response = momo.handle(line);
+            out.println(response.getText());
+            if (response.isExit()) {
+                return;
+            }
+        }
+        try {
+            momo.flush();
+        } catch (MomoException e) {
+            out.println(e.getMessage());
+        }
+    }
+
+    /**
+     * Runs Momo in the terminal, and exits with a non-zero status if it failed.
+     *
+     * @param args {@value #FLAG}, which is ignored, and optionally {@value #TIMING_FLAG},
+     *         {@value #BATCH_FLAG} and {@value #METRICS_FLAG}.
+     */
+    public static void main(String[] args) {
+        int status = launch(args);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs Momo in the terminal with the given arguments, and returns the exit status:
+     * 0 on success, 1 if a command or saving failed, and 2 if an argument is unknown.
+     *
+     * @param args the command-line arguments, as passed to {@link #main(String[])}.
+     * @return the exit status.
+     */
+    static int launch(String[] args) {
+        long mainStart = System.nanoTime();
+        boolean isTiming = false;
+        boolean isBatch = false;
+        boolean isMetrics = false;
+        for (String arg : args) {
+            if (arg.equals(TIMING_FLAG)) {
+                isTiming = true;
+            } else if (arg.equals(BATCH_FLAG)) {
+                isBatch = true;
+            } else if (arg.equals(METRICS_FLAG)) {
+                isMetrics = true;
+            } else if (!arg.equals(FLAG)) {
+                System.err.println("Unknown option: " + arg + "\nUsage: java -jar momo.jar " + FLAG
+                        + " [" + TIMING_FLAG + "] [" + BATCH_FLAG + "] [" + METRICS_FLAG + "]");
+                return 2;
+            }
+        }
+
+        Momo momo = new Momo();
+        if (isTiming) {
+            printStartupTime(mainStart);
+        }
+        if (isMetrics) {
+            momo.startMetricsDump();
+        }
+        int status = runInput(momo, isBatch);
+        try {
+            momo.close();
+        } catch (MomoException e) {
+            System.err.println(e.getMessage());
+            status = Math.max(status, 1);
+        }
+        return status;
+    }
+
+    /**
+     * Runs the commands from standard input, and returns the exit status.
+     */
+    private static int runInput(Momo momo, boolean isBatch) {
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        try {
+            if (isBatch) {
+                System.out.println(momo.runBatch(in));
+            } else {
+                new Cli(momo).run(in, System.out, System.console() != null);
+            }
+            return 0;
+        } catch (MomoException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        } catch (IOException e) {
+            System.err.println("Error reading commands: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Prints how long the JVM took to reach {@code main}, and how long loading the tasks took.
+     */
+    private static void printStartupTime(long mainStart) {
+        long loadMillis = (System.nanoTime() - mainStart) / 1_000_000;
+        long jvmMillis = ManagementFactory.getRuntimeMXBean().getUptime() - loadMillis;
+        System.err.println("Started in " + jvmMillis + " ms, then loaded tasks in " + loadMillis + " ms");
+    }
+}
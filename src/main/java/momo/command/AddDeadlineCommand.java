@@ -33,12 +33,12 @@ public class AddDeadlineCommand implements Command {
 
     /**
      * Adds a new {@link Deadline} task to the task list.
-     * Also saves the updated task list to storage and
+     * Also records the new task in storage and
      * returns a confirmation message.
      *
      * @param tasks the task list to which the deadline is added.
      * @param ui the user interface used to generate messages.
-     * @param storage the storage handler that saves the updated task list.
+     * @param storage the storage handler that records the new task.
      * @return the confirmation message after successfully adding the deadline
      */
     @Override
@@ -52,7 +52,7 @@ public class AddDeadlineCommand implements Command {
 
         assert tasks.size() > 0 : "Task list should contain at least one task after adding a deadline";
 
-        storage.save(tasks);
+        storage.saveAdd(task);
         return ui.getAddTaskMessage(task, tasks);
     }
 
@@ -1,8 +1,11 @@
 package momo.command;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 import momo.storage.Storage;
+import momo.task.DateTimeCodec;
 import momo.task.Event;
 import momo.task.Task;
 import momo.task.TaskList;
@@ -38,12 +41,12 @@ public class AddEventCommand implements Command {
 
     /**
      * Adds a new {@link Event} task to the task list.
-     * Also saves the updated task list to storage and
-     * returns a confirmation message.
+     * Also records the new task in storage and
+     * returns a confirmation message, warning about any events it overlaps.
      *
      * @param tasks the task list to which the event is added.
      * @param ui the user interface used to generate messages.
-     * @param storage the storage handler that saves the updated task list.
+     * @param storage the storage handler that records the new task.
      * @return the confirmation message after successfully adding the event.
      */
     @Override
@@ -52,13 +55,21 @@ public class AddEventCommand implements Command {
         assert ui != null : "Ui must not be null";
         assert storage != null : "Storage must not be null";
 
+        long[] overlappingIds = tasks.getIntervalIndex()
+                .findOverlapping(DateTimeCodec.toEpochMinute(from), DateTimeCodec.toEpochMinute(to));
+
         Task task = new Event(description, from, to);
         tasks.addTask(task);
 
         assert tasks.size() > 0 : "Task list should not be empty after adding an event";
 
-        storage.save(tasks);
-        return ui.getAddTaskMessage(task, tasks);
+        storage.saveAdd(task);
+        String message = ui.getAddTaskMessage(task, tasks);
+        if (overlappingIds.length == 0) {
+            return message;
+        }
+        List<Task> overlappingTasks = Arrays.stream(overlappingIds).mapToObj(tasks::getTaskById).toList();
+        return message + "\n" + ui.getOverlapWarning(overlappingTasks);
     }
 
     /**
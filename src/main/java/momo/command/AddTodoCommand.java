@@ -27,12 +27,12 @@ public class AddTodoCommand implements Command {
 
     /**
      * Adds a new {@link Todo} task to the task list.
-     * Also saves the updated task list to storage and
+     * Also records the new task in storage and
      * returns a confirmation message.
      *
      * @param tasks the task list to which the todo is added.
      * @param ui the user interface used to generate messages.
-     * @param storage the storage handler that saves the updated task list.
+     * @param storage the storage handler that records the new task.
      * @return the confirmation message after successfully adding the todo.
      */
     @Override
@@ -46,7 +46,7 @@ public class AddTodoCommand implements Command {
 
         assert tasks.size() > 0 : "Task list should not be empty after adding a todo";
 
-        storage.save(tasks);
+        storage.saveAdd(task);
         return ui.getAddTaskMessage(task, tasks);
     }
 
@@ -0,0 +1,86 @@
+package momo.command;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import momo.storage.Storage;
+import momo.task.DateTimeCodec;
+import momo.task.Deadline;
+import momo.task.Event;
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Represents a command that lists the deadlines due and the events taking place on a date.
+ * An event spanning several days appears on each of them.
+ */
+public class AgendaCommand implements Command {
+    private final LocalDate date;
+
+    /**
+     * Creates a new {@code AgendaCommand}.
+     *
+     * @param date the date to show the agenda for.
+     */
+    public AgendaCommand(LocalDate date) {
+        assert date != null : "Date must not be null";
+
+        this.date = date;
+    }
+
+    /**
+     * Executes the agenda command by looking up the date in the time index of the given
+     * {@link TaskList} and returns the tasks on it as a string, in order of time.
+     *
+     * @param tasks the task list to search through.
+     * @param ui the user interface used to generate messages (not used in this command).
+     * @param storage the storage component (not modified by this command).
+     * @return the tasks on the date as a string.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) {
+        assert tasks != null : "TaskList must not be null";
+        assert ui != null : "Ui must not be null";
+        assert storage != null : "Storage must not be null";
+
+        long fromMinute = DateTimeCodec.toEpochMinute(date.atStartOfDay());
+        long toMinute = DateTimeCodec.toEpochMinute(date.plusDays(1).atStartOfDay());
+        List<Task> agendaTasks = new ArrayList<>();
+        for (long id : tasks.getTimeIndex().findDeadlines(fromMinute, toMinute - 1)) {
+            agendaTasks.add(tasks.getTaskById(id));
+        }
+        for (long id : tasks.getIntervalIndex().findOverlapping(fromMinute, toMinute)) {
+            agendaTasks.add(tasks.getTaskById(id));
+        }
+        agendaTasks.sort(Comparator.comparing(AgendaCommand::getTime));
+
+        String agendaMessage = IntStream.range(0, agendaTasks.size())
+                .mapToObj(x -> String.format("%d.%s", x + 1, agendaTasks.get(x).toString()))
+                .collect(Collectors.joining("\n"));
+
+        return "Here is your agenda for " + DateTimeCodec.formatForDisplay(date) + ":\n" + agendaMessage;
+    }
+
+    /**
+     * Returns the time at which a task appears in the agenda.
+     */
+    private static LocalDateTime getTime(Task task) {
+        return task instanceof Deadline ? ((Deadline) task).getBy() : ((Event) task).getFrom();
+    }
+
+    /**
+     * Returns whether this command will exit the program.
+     *
+     * @return {@code false}, as showing the agenda does not exit the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
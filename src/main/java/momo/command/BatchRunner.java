@@ -0,0 +1,89 @@
+package momo.command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import momo.exception.MomoException;
+import momo.parser.Parser;
+import momo.storage.Storage;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Runs commands read one per line as a single batch.
+ *
+ * <p>The replies of the commands are not kept, only a summary of the batch. Each change is
+ * recorded in the journal as usual, but the batch only waits for the journal to be written
+ * every {@code flushInterval} commands and once at the end, so a long batch is written in
+ * large blocks. A line that fails is listed in the summary with its line number and does
+ * not stop the batch. Blank lines are skipped, and the batch ends early at a "bye" line.</p>
+ */
+public class BatchRunner {
+    /** The number of commands between waits for the journal to be written. */
+    public static final int FLUSH_INTERVAL = 1000;
+
+    private final TaskList tasks;
+    private final Ui ui;
+    private final Storage storage;
+    private final int flushInterval;
+
+    /**
+     * Creates a new {@code BatchRunner}.
+     *
+     * @param tasks the task list the commands operate on.
+     * @param ui the user interface used to generate messages.
+     * @param storage the storage handler that saves the changes.
+     * @param flushInterval the number of commands between waits for the journal to be written.
+     */
+    public BatchRunner(TaskList tasks, Ui ui, Storage storage, int flushInterval) {
+        assert flushInterval > 0 : "Flush interval must be positive";
+        this.tasks = tasks;
+        this.ui = ui;
+        this.storage = storage;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Runs every command read from the reader, then waits for their changes to be saved.
+     *
+     * @param reader the reader to read commands from, one per line.
+     * @param source the name of the input, shown in the summary.
+     * @return the summary of the batch, listing the lines that failed.
+     * @throws IOException if the input cannot be read.
+     * @throws MomoException if the changes could not be saved, which stops the batch.
+     */
+    public String run(BufferedReader reader, String source) throws IOException, MomoException {
+        long start = System.nanoTime();
+        List<String> errors = new ArrayList<>();
+        int commandCount = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty()) {
+                continue;
+            }
+            try {
+                Command command = Parser.parseToCommand(trimmedLine);
+                if (command.isExit()) {
+                    break;
+                }
+                if (command instanceof RunCommand) {
+                    throw new MomoException("A script cannot run another script!");
+                }
+                Command.executeRecorded(command, tasks, ui, storage);
+            } catch (MomoException e) {
+                errors.add("Line " + lineNumber + ": " + e.getMessage().lines().findFirst().orElse(""));
+            }
+            commandCount++;
+            if (commandCount % flushInterval == 0) {
+                storage.flush();
+            }
+        }
+        storage.flush();
+        return ui.getBatchSummary(source, commandCount, System.nanoTime() - start, errors);
+    }
+}
@@ -1,6 +1,8 @@
 package momo.command;
 
 import momo.exception.MomoException;
+import momo.metrics.ExecuteEvent;
+import momo.metrics.FlightRecording;
 import momo.storage.Storage;
 import momo.task.TaskList;
 import momo.ui.Ui;
@@ -28,5 +30,37 @@ public interface Command {
      *         {@code false} otherwise.
      */
     boolean isExit();
+
+    /**
+     * Executes the command and records an {@link ExecuteEvent} for Java Flight Recorder.
+     * Until the flight recorder is started, the command is only executed.
+     *
+     * @param command the command to execute.
+     * @param tasks the task list to operate on.
+     * @param ui the user interface used to generate messages.
+     * @param storage the storage handler that saves or loads tasks.
+     * @return the result message of the command execution.
+     * @throws MomoException if an error occurs during execution.
+     */
+    static String executeRecorded(Command command, TaskList tasks, Ui ui, Storage storage)
+            throws MomoException {
+        if (!FlightRecording.isEnabled()) {
+            return command.execute(tasks, ui, storage);
+        }
+        ExecuteEvent event = new ExecuteEvent();
+        boolean isFailed = true;
+        try {
+            String text = command.execute(tasks, ui, storage);
+            isFailed = false;
+            return text;
+        } finally {
+            if (event.shouldCommit()) {
+                event.setCommandClass(command.getClass());
+                event.setTaskCount(tasks.size());
+                event.setFailed(isFailed);
+                event.commit();
+            }
+        }
+    }
 }
 
@@ -4,33 +4,36 @@ import momo.exception.MomoException;
 import momo.storage.Storage;
 import momo.task.Task;
 import momo.task.TaskList;
+import momo.task.TaskReference;
 import momo.ui.Ui;
 
 /**
  * Represents a command that deletes a task from the task list.
  */
 public class DeleteCommand implements Command {
-    private final int index;
+    private final TaskReference reference;
 
     /**
      * Creates a new {@code DeleteCommand}.
      *
-     * @param index the index of the task to be deleted.
+     * @param reference the position or identifier of the task to be deleted.
      */
-    public DeleteCommand(int index) {
-        this.index = index;
+    public DeleteCommand(TaskReference reference) {
+        assert reference != null : "Task reference must not be null";
+
+        this.reference = reference;
     }
 
     /**
-     * Deletes the task at the specified index from the task list.
-     * Also saves the updated task list to storage and
+     * Deletes the task referred to from the task list.
+     * Also records the change in storage and
      * returns a confirmation message.
      *
      * @param tasks the task list from which the task is deleted.
      * @param ui the user interface used to generate messages.
-     * @param storage the storage handler that saves the updated task list.
+     * @param storage the storage handler that records the change.
      * @return the confirmation message after successfully deleting the task.
-     * @throws MomoException if the specified index is invalid.
+     * @throws MomoException if the referenced task does not exist.
      */
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) throws MomoException {
@@ -38,7 +41,8 @@ public class DeleteCommand implements Command {
         assert ui != null : "Ui must not be null";
         assert storage != null : "Storage must not be null";
 
-        if (index < 0 || index >= tasks.size()) {
+        int index = reference.resolve(tasks);
+        if (index < 0) {
             String errorDetail = "The task number provided is invalid!";
             String errorFix = "Fix: Retry \"delete <task number>\" with a valid task number!";
             throw new MomoException(errorDetail + "\n" + errorFix);
@@ -47,7 +51,7 @@ public class DeleteCommand implements Command {
 
         assert tasks.size() >= 0 : "Task list size should be non-negative after deletion";
 
-        storage.save(tasks);
+        storage.saveDelete(deletedTask);
         return ui.getDeleteTaskMessage(deletedTask, tasks);
     }
 
@@ -0,0 +1,74 @@
+package momo.command;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import momo.storage.Storage;
+import momo.task.DateTimeCodec;
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Represents a command that lists the deadlines due between two dates, inclusive.
+ */
+public class DueCommand implements Command {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a new {@code DueCommand}.
+     *
+     * @param from the first date of the range.
+     * @param to the last date of the range.
+     */
+    public DueCommand(LocalDate from, LocalDate to) {
+        assert from != null : "Start date must not be null";
+        assert to != null : "End date must not be null";
+        assert !from.isAfter(to) : "Start date must not be after end date";
+
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Executes the due command by looking up the deadlines in the time index of the given
+     * {@link TaskList} and returns them as a string, earliest first.
+     *
+     * @param tasks the task list to search through.
+     * @param ui the user interface used to generate messages (not used in this command).
+     * @param storage the storage component (not modified by this command).
+     * @return the deadlines due in the range as a string.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) {
+        assert tasks != null : "TaskList must not be null";
+        assert ui != null : "Ui must not be null";
+        assert storage != null : "Storage must not be null";
+
+        long[] ids = tasks.getTimeIndex().findDeadlines(DateTimeCodec.toEpochMinute(from.atStartOfDay()),
+                DateTimeCodec.toEpochMinute(to.atTime(LocalTime.MAX)));
+        List<Task> dueTasks = Arrays.stream(ids).mapToObj(tasks::getTaskById).toList();
+
+        String dueTasksMessage = IntStream.range(0, dueTasks.size())
+                .mapToObj(x -> String.format("%d.%s", x + 1, dueTasks.get(x).toString()))
+                .collect(Collectors.joining("\n"));
+
+        return "Here are the deadlines due from " + DateTimeCodec.formatForDisplay(from)
+                + " to " + DateTimeCodec.formatForDisplay(to) + ":\n" + dueTasksMessage;
+    }
+
+    /**
+     * Returns whether this command will exit the program.
+     *
+     * @return {@code false}, as listing deadlines does not exit the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
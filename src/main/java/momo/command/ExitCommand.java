@@ -1,5 +1,6 @@
 package momo.command;
 
+import momo.exception.MomoException;
 import momo.storage.Storage;
 import momo.task.TaskList;
 import momo.ui.Ui;
@@ -10,19 +11,22 @@ import momo.ui.Ui;
 public class ExitCommand implements Command {
 
     /**
-     * Executes the exit command by returning the farewell message.
+     * Executes the exit command by waiting for every pending change to be saved
+     * and returning the farewell message.
      *
      * @param tasks the task list (not used in this command).
      * @param ui the user interface used to generate messages.
-     * @param storage the storage handler (not used in this command).
+     * @param storage the storage handler whose pending changes are flushed.
      * @return the farewell message when exiting the application.
+     * @throws MomoException if some changes could not be saved, so the user can try again.
      */
     @Override
-    public String execute(TaskList tasks, Ui ui, Storage storage) {
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws MomoException {
         assert tasks != null : "TaskList must not be null";
         assert ui != null : "Ui must not be null";
         assert storage != null : "Storage must not be null";
 
+        storage.flush();
         return ui.getByeMessage();
     }
 
@@ -0,0 +1,44 @@
+package momo.command;
+
+import java.nio.file.Path;
+
+import momo.exception.MomoException;
+import momo.storage.Storage;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Represents a command that exports all tasks to a human-readable text file.
+ */
+public class ExportCommand implements Command {
+
+    /**
+     * Executes the export command by writing every task in the text save format
+     * and returning a confirmation message.
+     *
+     * @param tasks the task list to export.
+     * @param ui the user interface used to generate messages (not used in this command).
+     * @param storage the storage handler that writes the exported file.
+     * @return the confirmation message after successfully exporting the tasks.
+     * @throws MomoException if the file cannot be written.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws MomoException {
+        assert tasks != null : "TaskList must not be null";
+        assert ui != null : "Ui must not be null";
+        assert storage != null : "Storage must not be null";
+
+        Path filePath = storage.exportText(tasks);
+        return "Done! I've exported " + tasks.size() + " tasks to:\n  " + filePath;
+    }
+
+    /**
+     * Returns whether this command will exit the program.
+     *
+     * @return {@code false}, as exporting tasks does not exit the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 package momo.command;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -7,24 +8,45 @@ import java.util.stream.IntStream;
 import momo.storage.Storage;
 import momo.task.Task;
 import momo.task.TaskList;
+import momo.task.index.TokenQuery;
+import momo.task.index.TrigramIndex;
 import momo.ui.Ui;
 
 /**
  * Represents a command that finds all tasks containing a specified keyword.
+ *
+ * <p>A plain keyword is matched as a substring of each description. Keywords of at
+ * least {@link TrigramIndex#GRAM_LENGTH} characters are first narrowed down with the
+ * trigram index of the task list, so only the candidates are checked. A keyword that
+ * the user marked as a query is parsed as a {@link TokenQuery}, which may use
+ * {@code AND}, {@code OR} and a trailing {@code *}, and answered from the token index
+ * instead.</p>
  */
 public class FindCommand implements Command {
     private final String keyword;
+    private final boolean isQuery;
 
     /**
-     * Creates a new {@code FindCommand}.
+     * Creates a new {@code FindCommand} that matches the keyword as a substring.
      *
      * @param keyword the keyword to find in task descriptions.
      */
     public FindCommand(String keyword) {
+        this(keyword, false);
+    }
+
+    /**
+     * Creates a new {@code FindCommand}.
+     *
+     * @param keyword the keyword to find in task descriptions.
+     * @param isQuery whether the keyword is a {@link TokenQuery} rather than a substring.
+     */
+    public FindCommand(String keyword, boolean isQuery) {
         assert keyword != null : "Keyword must not be null";
         assert !keyword.trim().isEmpty() : "Keyword must not be empty";
 
         this.keyword = keyword;
+        this.isQuery = isQuery;
     }
 
     /**
@@ -42,9 +64,16 @@ public class FindCommand implements Command {
         assert ui != null : "Ui must not be null";
         assert storage != null : "Storage must not be null";
 
-        List<Task> foundTasks = tasks.stream()
-                .filter(task -> task.getDescription().contains(keyword))
-                .toList();
+        List<Task> foundTasks;
+        if (isQuery) {
+            foundTasks = toTasks(tasks, tasks.getTokenIndex().search(TokenQuery.parse(keyword)));
+        } else if (keyword.length() >= TrigramIndex.GRAM_LENGTH) {
+            foundTasks = toTasks(tasks, tasks.getTrigramIndex().findCandidates(keyword)).stream()
+                    .filter(task -> task.getDescription().contains(keyword))
+                    .toList();
+        } else {
+            foundTasks = tasks.stream().filter(task -> task.getDescription().contains(keyword)).toList();
+        }
 
         String foundTasksMessage = IntStream.range(0, foundTasks.size())
                 .mapToObj(x -> String.format("%d.%s", x + 1, foundTasks.get(x).toString()))
@@ -53,6 +82,18 @@ public class FindCommand implements Command {
         return "Here are the matching tasks in your list:\n" + foundTasksMessage;
     }
 
+    /**
+     * Returns the tasks with the given identifiers, in the order they appear in the list.
+     */
+    private static List<Task> toTasks(TaskList tasks, long[] ids) {
+        int[] indexes = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            indexes[i] = tasks.indexOf(ids[i]);
+        }
+        Arrays.sort(indexes);
+        return Arrays.stream(indexes).mapToObj(tasks::getTask).toList();
+    }
+
     /**
      * Returns whether this command will exit the program.
      *
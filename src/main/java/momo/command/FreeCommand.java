@@ -0,0 +1,75 @@
+package momo.command;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import momo.storage.Storage;
+import momo.task.DateTimeCodec;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Represents a command that finds the free slots of at least a given length on a date,
+ * that is, the gaps between the events taking place on it.
+ */
+public class FreeCommand implements Command {
+    private final LocalDate date;
+    private final int minutes;
+
+    /**
+     * Creates a new {@code FreeCommand}.
+     *
+     * @param date the date to find free slots on.
+     * @param minutes the shortest free slot to include, in minutes.
+     */
+    public FreeCommand(LocalDate date, int minutes) {
+        assert date != null : "Date must not be null";
+        assert minutes > 0 : "Duration must be positive";
+
+        this.date = date;
+        this.minutes = minutes;
+    }
+
+    /**
+     * Executes the free command by looking up the events on the date in the interval
+     * index of the given {@link TaskList} and returns the gaps between them as a string.
+     *
+     * @param tasks the task list to search through.
+     * @param ui the user interface used to generate messages (not used in this command).
+     * @param storage the storage component (not modified by this command).
+     * @return the free slots as a string, in order of time.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) {
+        assert tasks != null : "TaskList must not be null";
+        assert ui != null : "Ui must not be null";
+        assert storage != null : "Storage must not be null";
+
+        List<long[]> slots = tasks.getIntervalIndex().findFreeSlots(
+                DateTimeCodec.toEpochMinute(date.atStartOfDay()),
+                DateTimeCodec.toEpochMinute(date.plusDays(1).atStartOfDay()), minutes);
+
+        String slotsMessage = IntStream.range(0, slots.size())
+                .mapToObj(x -> (x + 1) + "." + formatMinute(slots.get(x)[0]) + " to " + formatMinute(slots.get(x)[1]))
+                .collect(Collectors.joining("\n"));
+
+        return "Here are the free slots of at least " + minutes + " minutes on "
+                + DateTimeCodec.formatForDisplay(date) + ":\n" + slotsMessage;
+    }
+
+    private static String formatMinute(long epochMinute) {
+        return DateTimeCodec.formatForDisplay(DateTimeCodec.fromEpochMinute(epochMinute));
+    }
+
+    /**
+     * Returns whether this command will exit the program.
+     *
+     * @return {@code false}, as finding free slots does not exit the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,84 @@
+package momo.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import momo.storage.Storage;
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Represents a command that finds all tasks containing a word similar to a specified word,
+ * so that a misspelt word such as {@code meting} still finds {@code meeting}.
+ *
+ * <p>Tasks are ranked by the edit distance of their closest word, and tasks with equally
+ * close words keep their order in the list. The largest distance allowed grows with the
+ * length of the word, so short words are not matched by unrelated ones.</p>
+ */
+public class FuzzyFindCommand implements Command {
+    private static final int MAX_DISTANCE = 2;
+    private static final int MIN_LENGTH_PER_EDIT = 3;
+
+    private final String word;
+
+    /**
+     * Creates a new {@code FuzzyFindCommand}.
+     *
+     * @param word the lower-case word to find similar words to.
+     */
+    public FuzzyFindCommand(String word) {
+        assert word != null : "Word must not be null";
+        assert !word.isEmpty() : "Word must not be empty";
+
+        this.word = word;
+    }
+
+    /**
+     * Executes the fuzzy find command by looking up words similar to the word in the
+     * token index of the given {@link TaskList} and returns the matching tasks as a string.
+     *
+     * @param tasks the task list to search through.
+     * @param ui the user interface used to generate messages (not used in this command).
+     * @param storage the storage component (not modified by this command).
+     * @return the matching tasks as a string, closest matches first.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) {
+        assert tasks != null : "TaskList must not be null";
+        assert ui != null : "Ui must not be null";
+        assert storage != null : "Storage must not be null";
+
+        int maxDistance = Math.min(MAX_DISTANCE, word.length() / MIN_LENGTH_PER_EDIT);
+        List<Task> foundTasks = new ArrayList<>();
+        for (long[] ids : tasks.getTokenIndex().findSimilar(word, maxDistance)) {
+            int[] indexes = new int[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                indexes[i] = tasks.indexOf(ids[i]);
+            }
+            Arrays.sort(indexes);
+            for (int index : indexes) {
+                foundTasks.add(tasks.getTask(index));
+            }
+        }
+
+        String foundTasksMessage = IntStream.range(0, foundTasks.size())
+                .mapToObj(x -> String.format("%d.%s", x + 1, foundTasks.get(x).toString()))
+                .collect(Collectors.joining("\n"));
+
+        return "Here are the matching tasks in your list:\n" + foundTasksMessage;
+    }
+
+    /**
+     * Returns whether this command will exit the program.
+     *
+     * @return {@code false}, as finding tasks does not exit the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -1,25 +1,75 @@
 package momo.command;
 
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 import momo.storage.Storage;
+import momo.task.Task;
 import momo.task.TaskList;
 import momo.ui.Ui;
 
 /**
- * Represents a command that lists all tasks in the task list.
+ * Represents a command that lists the tasks in the task list, either all of them
+ * or only those that are done or not done.
+ *
+ * <p>Tasks are listed one page at a time, so a large list is never rendered as a whole.
+ * The page is located by jumping to its first task, in logarithmic time for done and
+ * undone tasks too, and only the tasks on it are read and formatted, so every page costs
+ * about the same no matter how far into the list it is.</p>
  */
 public class ListCommand implements Command {
+    /** The number of tasks on a page when no page size is given. */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /** The largest number of tasks that may be shown on one page. */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Represents which tasks a {@code ListCommand} lists.
+     */
+    public enum Filter {
+        ALL, DONE, UNDONE
+    }
+
+    private final Filter filter;
+    private final int page;
+    private final int pageSize;
+
+    /**
+     * Creates a new {@code ListCommand} that lists the first page of all tasks.
+     */
+    public ListCommand() {
+        this(Filter.ALL, 1, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a new {@code ListCommand} that lists a page of the tasks matching the filter.
+     *
+     * @param filter which tasks to list.
+     * @param page the one-based number of the page to list.
+     * @param pageSize the number of tasks on each page.
+     */
+    public ListCommand(Filter filter, int page, int pageSize) {
+        assert filter != null : "Filter must not be null";
+        assert page > 0 : "Page must be positive";
+        assert pageSize > 0 && pageSize <= MAX_PAGE_SIZE : "Page size must be between 1 and " + MAX_PAGE_SIZE;
+
+        this.filter = filter;
+        this.page = page;
+        this.pageSize = pageSize;
+    }
 
     /**
-     * Executes the list command by returning all tasks in the task list as a string.
+     * Executes the list command by returning the tasks on the requested page as a string.
      * Tasks are numbered starting from 1.
      *
      * @param tasks the task list whose tasks are displayed.
      * @param ui the user interface used to generate messages (not used in this command).
      * @param storage the storage handler (not used in this command).
-     * @return all tasks in the task list as a string.
+     * @return the listed tasks as a string.
      */
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) {
@@ -27,10 +77,81 @@ public class ListCommand implements Command {
         assert ui != null : "Ui must not be null";
         assert storage != null : "Storage must not be null";
 
-        String listMessage = IntStream.range(0, tasks.size())
-                .mapToObj(x -> String.format("%d.%s", x + 1, tasks.getTask(x).toString()))
-                .collect(Collectors.joining("\n"));
-        return "Here are the tasks in your list:\n" + listMessage;
+        StringBuilder message = new StringBuilder();
+        try {
+            writeTo(tasks, message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return message.toString();
+    }
+
+    /**
+     * Writes the tasks on the requested page to the given destination, one task at a time.
+     *
+     * @param tasks the task list whose tasks are displayed.
+     * @param out the destination to write to.
+     * @throws IOException if writing to the destination fails.
+     */
+    public void writeTo(TaskList tasks, Appendable out) throws IOException {
+        int total = countMatching(tasks);
+        int pageCount = Math.max(1, (total + pageSize - 1) / pageSize);
+        if (page > pageCount) {
+            out.append("There is no page ").append(String.valueOf(page)).append(" in your list, as it only has ")
+                    .append(String.valueOf(pageCount)).append(pageCount == 1 ? " page." : " pages.");
+            return;
+        }
+
+        int first = (page - 1) * pageSize;
+        out.append(filter == Filter.ALL ? "Here are the tasks in your list:\n"
+                : filter == Filter.DONE ? "Here are the done tasks in your list:\n"
+                : "Here are the undone tasks in your list:\n");
+        Iterator<Task> window = streamMatching(tasks, first).limit(pageSize).iterator();
+        int number = first + 1;
+        while (window.hasNext()) {
+            if (number > first + 1) {
+                out.append('\n');
+            }
+            out.append(String.valueOf(number)).append('.').append(window.next().toString());
+            number++;
+        }
+
+        if (pageCount > 1) {
+            out.append("\nShowing ").append(String.valueOf(first + 1)).append('-').append(String.valueOf(number - 1))
+                    .append(" of ").append(String.valueOf(total))
+                    .append(" (page ").append(String.valueOf(page)).append(" of ").append(String.valueOf(pageCount))
+                    .append(").");
+            if (page < pageCount) {
+                out.append(" Type \"").append(getNextPageCommand()).append("\" to see more.");
+            }
+        }
+    }
+
+    private int countMatching(TaskList tasks) {
+        switch (filter) {
+        case DONE:
+            return tasks.countDone();
+        case UNDONE:
+            return tasks.size() - tasks.countDone();
+        default:
+            return tasks.size();
+        }
+    }
+
+    /**
+     * Returns the matching tasks, skipping the given number of them.
+     */
+    private Stream<Task> streamMatching(TaskList tasks, int skipped) {
+        if (filter == Filter.ALL) {
+            return tasks.streamFrom(skipped);
+        }
+        return tasks.streamFrom(filter == Filter.DONE, skipped);
+    }
+
+    private String getNextPageCommand() {
+        String filterWord = filter == Filter.ALL ? "" : filter.name().toLowerCase(Locale.ROOT) + " ";
+        String command = "list " + filterWord + (page + 1);
+        return pageSize == DEFAULT_PAGE_SIZE ? command : command + " " + pageSize;
     }
 
     /**
@@ -3,33 +3,36 @@ package momo.command;
 import momo.exception.MomoException;
 import momo.storage.Storage;
 import momo.task.TaskList;
+import momo.task.TaskReference;
 import momo.ui.Ui;
 
 /**
  * Represents a command that marks a task in the task list as done.
  */
 public class MarkCommand implements Command {
-    private final int index;
+    private final TaskReference reference;
 
     /**
      * Creates a new {@code MarkCommand}.
      *
-     * @param index the index of the task to be marked as done.
+     * @param reference the position or identifier of the task to be marked as done.
      */
-    public MarkCommand(int index) {
-        this.index = index;
+    public MarkCommand(TaskReference reference) {
+        assert reference != null : "Task reference must not be null";
+
+        this.reference = reference;
     }
 
     /**
-     * Marks the task at the specified index in the task list as done.
-     * Also saves the updated task list to storage and
+     * Marks the task referred to in the task list as done.
+     * Also records the change in storage and
      * returns a confirmation message.
      *
      * @param tasks the task list containing the task to mark.
      * @param ui the user interface used to generate messages (not used in this command).
-     * @param storage the storage handler that saves the updated task list.
+     * @param storage the storage handler that records the change.
      * @return the confirmation message after successfully marking the task.
-     * @throws MomoException if the specified index is invalid.
+     * @throws MomoException if the referenced task does not exist.
      */
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) throws MomoException {
@@ -37,7 +40,8 @@ public class MarkCommand implements Command {
         assert ui != null : "Ui must not be null";
         assert storage != null : "Storage must not be null";
 
-        if (index < 0 || index >= tasks.size()) {
+        int index = reference.resolve(tasks);
+        if (index < 0) {
             String errorDetail = "The task number provided is invalid!";
             String errorFix = "Fix: Retry \"mark <task number>\" with a valid task number!";
             throw new MomoException(errorDetail + "\n" + errorFix);
@@ -46,7 +50,7 @@ public class MarkCommand implements Command {
 
         assert tasks.getTask(index).isDone() : "Task should be marked as done after execution";
 
-        storage.save(tasks);
+        storage.saveMark(tasks.getTask(index));
         return "Nice! I've marked this task as done:\n  " + tasks.getTask(index).toString();
     }
 
@@ -0,0 +1,39 @@
+package momo.command;
+
+import momo.metrics.Metrics;
+import momo.storage.Storage;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Represents a command that shows how long each kind of command and disk write has taken.
+ */
+public class MetricsCommand implements Command {
+
+    /**
+     * Executes the metrics command by returning the report of the shared {@link Metrics}.
+     *
+     * @param tasks the task list (not used in this command).
+     * @param ui the user interface (not used in this command).
+     * @param storage the storage handler (not used in this command).
+     * @return the report of every metric recorded so far.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) {
+        assert tasks != null : "TaskList must not be null";
+        assert ui != null : "Ui must not be null";
+        assert storage != null : "Storage must not be null";
+
+        return Metrics.getGlobal().report();
+    }
+
+    /**
+     * Returns whether this command will exit the program.
+     *
+     * @return {@code false}, as showing the metrics does not exit the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,62 @@
+package momo.command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import momo.exception.MomoException;
+import momo.storage.Storage;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Represents a command that runs every command in a file, one per line, as a batch.
+ */
+public class RunCommand implements Command {
+    private final Path filePath;
+
+    /**
+     * Creates a new {@code RunCommand}.
+     *
+     * @param filePath the file of commands to run.
+     */
+    public RunCommand(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Executes the run command by streaming the file through a {@link BatchRunner}
+     * and returning its summary.
+     *
+     * @param tasks the task list the commands operate on.
+     * @param ui the user interface used to generate messages.
+     * @param storage the storage handler that saves the changes.
+     * @return the summary of the batch, listing the lines that failed.
+     * @throws MomoException if the file cannot be read.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws MomoException {
+        assert tasks != null : "TaskList must not be null";
+        assert ui != null : "Ui must not be null";
+        assert storage != null : "Storage must not be null";
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            return new BatchRunner(tasks, ui, storage, BatchRunner.FLUSH_INTERVAL).run(reader, filePath.toString());
+        } catch (IOException e) {
+            String errorDetail = "The file " + filePath + " could not be read!";
+            String errorFix = "Fix: Check that the file exists and is a text file!";
+            throw new MomoException(errorDetail + "\n" + errorFix);
+        }
+    }
+
+    /**
+     * Returns whether this command will exit the program.
+     *
+     * @return {@code false}, as running a file does not exit the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package momo.command;
+
+import momo.storage.Storage;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Represents a command that summarises how many tasks are done.
+ */
+public class StatsCommand implements Command {
+    private static final int PERCENT = 100;
+
+    /**
+     * Executes the stats command by counting the done tasks in the given {@link TaskList}
+     * and returns the summary as a string.
+     *
+     * @param tasks the task list to summarise.
+     * @param ui the user interface used to generate messages (not used in this command).
+     * @param storage the storage handler (not used in this command).
+     * @return the summary as a string.
+     */
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) {
+        assert tasks != null : "TaskList must not be null";
+        assert ui != null : "Ui must not be null";
+        assert storage != null : "Storage must not be null";
+
+        int total = tasks.size();
+        int done = tasks.countDone();
+        int percentDone = total == 0 ? 0 : (int) ((long) done * PERCENT / total);
+        return "Here is a summary of your tasks:\n"
+                + "Total: " + total + "\n"
+                + "Done: " + done + "\n"
+                + "Not done: " + (total - done) + "\n"
+                + "Progress: " + percentDone + "%";
+    }
+
+    /**
+     * Returns whether this command will exit the program.
+     *
+     * @return {@code false}, as showing statistics does not exit the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -1,18 +1,14 @@
 package momo.gui;
 
-import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 
 /**
  * Represents a dialog box containing a text label and an image.
@@ -21,34 +17,71 @@ import javafx.scene.layout.HBox;
  * User dialogs are aligned with the image on the right, while Momo's dialogs
  * are flipped with the image on the left and styled according to the type of
  * command executed.</p>
+ *
+ * <p>A dialog box can be shown again with a different message, so a list cell can reuse
+ * one dialog box for every message scrolled through it. The nodes are built directly rather
+ * than loaded from FXML, which would read and parse the layout again for every dialog box.</p>
  */
 public class DialogBox extends HBox {
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+    private static final List<String> REPLY_STYLE_CLASSES = List.of("reply-label", "add-label", "marked-label",
+            "unmarked-label", "delete-label", "find-label", "error-label", "pending-label");
 
-    private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    private static final String STYLESHEET = DialogBox.class.getResource("/css/dialog-box.css").toExternalForm();
+    private static final double PICTURE_SIZE = 99;
+
+    private final Label dialog = new Label();
+    private final ImageView displayPicture = new ImageView();
+
+    /**
+     * Creates an empty dialog box, to be filled in with {@link #show(Message, Image)}.
+     */
+    public DialogBox() {
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        dialog.setWrapText(true);
+        dialog.setPadding(new Insets(6));
+        HBox.setMargin(dialog, new Insets(0, 7, 0, 7));
+
+        displayPicture.setId("displayPicture");
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
+
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPrefWidth(400);
+        setPadding(new Insets(15, 5, 15, 5));
+        getStylesheets().add(STYLESHEET);
+        getChildren().setAll(dialog, displayPicture);
+    }
 
-        dialog.setText(text);
+    /**
+     * Shows a message in this dialog box, replacing the message shown before.
+     *
+     * <p>User messages have the image on the right. Momo's messages are flipped, with the
+     * image on the left, and styled according to the type of command executed.</p>
+     *
+     * @param message the message to show.
+     * @param img the profile image of the sender.
+     */
+    public void show(Message message, Image img) {
+        dialog.setText(message.getText());
         displayPicture.setImage(img);
+        dialog.getStyleClass().removeAll(REPLY_STYLE_CLASSES);
+        if (message.isUser()) {
+            getChildren().setAll(dialog, displayPicture);
+            setAlignment(Pos.TOP_RIGHT);
+        } else {
+            flip();
+            changeDialogStyle(message.getCommandType());
+        }
     }
 
     /**
      * Flips the dialog box such that the ImageView is on the left and text on the right.
      */
     private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
+        getChildren().setAll(displayPicture, dialog);
         setAlignment(Pos.TOP_LEFT);
         dialog.getStyleClass().add("reply-label");
     }
@@ -80,6 +113,9 @@ public class DialogBox extends HBox {
         case "Error":
             dialog.getStyleClass().add("error-label");
             break;
+        case "Pending":
+            dialog.getStyleClass().add("pending-label");
+            break;
         default:
             // No style applied for unrecognized command types
         }
@@ -96,7 +132,9 @@ public class DialogBox extends HBox {
      * @return A dialog box containing the user's dialog.
      */
     public static DialogBox getUserDialog(String text, Image img) {
-        return new DialogBox(text, img);
+        var db = new DialogBox();
+        db.show(Message.fromUser(text), img);
+        return db;
     }
 
     /**
@@ -112,9 +150,8 @@ public class DialogBox extends HBox {
      * @return A dialog box containing Momo's styled dialog.
      */
     public static DialogBox getMomoDialog(String text, Image img, String commandType) {
-        var db = new DialogBox(text, img);
-        db.flip();
-        db.changeDialogStyle(commandType);
+        var db = new DialogBox();
+        db.show(Message.fromMomo(text, commandType), img);
         return db;
     }
 }
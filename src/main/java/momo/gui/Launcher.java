@@ -1,12 +1,20 @@
 package momo.gui;
 
 import javafx.application.Application;
+import momo.cli.Cli;
 
 /**
  * A launcher class to workaround classpath issues.
+ *
+ * <p>Runs Momo in the terminal through {@link Cli} instead when the first argument is
+ * {@value Cli#FLAG}. JavaFX classes are only loaded when the GUI is launched.</p>
  */
 public class Launcher {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(Cli.FLAG)) {
+            Cli.main(args);
+            return;
+        }
         Application.launch(Main.class, args);
     }
 }
@@ -3,19 +3,45 @@ package momo.gui;
 import java.io.IOException;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
+import momo.CommandRunner;
 import momo.Momo;
+import momo.exception.MomoException;
 
 /**
  * A GUI for Momo using FXML.
  */
 public class Main extends Application {
 
-    private final Momo momo = new Momo();
+    private final Momo momo;
+    private final CommandRunner commandRunner;
+
+    /**
+     * Creates a new {@code Main} that loads the tasks from the default data directory.
+     */
+    public Main() {
+        this(new Momo());
+    }
+
+    private Main(Momo momo) {
+        this(momo, new CommandRunner(momo::handle, Platform::runLater));
+    }
+
+    /**
+     * Creates a new {@code Main} that handles commands with the given Momo instance and runner.
+     *
+     * @param momo the Momo instance that handles each command.
+     * @param commandRunner the runner that handles commands in the background.
+     */
+    Main(Momo momo, CommandRunner commandRunner) {
+        this.momo = momo;
+        this.commandRunner = commandRunner;
+    }
 
     @Override
     public void start(Stage stage) {
@@ -29,9 +55,30 @@ public class Main extends Application {
             stage.setMinWidth(417);
             stage.getIcons().add(new Image(Main.class.getResourceAsStream("/images/MomoIcon.png")));
             fxmlLoader.<MainWindow>getController().setMomo(momo); // inject the Momo instance
+            fxmlLoader.<MainWindow>getController().setCommandRunner(commandRunner);
+            momo.startMetricsDump();
             stage.show();
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Waits for the commands already entered to finish, then for their changes to be
+     * written to the disk, so closing the window never loses a change. The metrics are
+     * then written one last time. If a command is still running after a few seconds,
+     * nothing is written, since the command may still be changing the tasks.
+     */
+    @Override
+    public void stop() {
+        if (!commandRunner.shutdown()) {
+            System.err.println("A command is still running, so the changes made since it started may not be saved.");
+            return;
+        }
+        try {
+            momo.close();
+        } catch (MomoException e) {
+            System.err.println(e.getMessage());
+        }
+    }
 }
@@ -1,29 +1,46 @@
 package momo.gui;
 
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
+import javafx.scene.control.skin.ListViewSkin;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+import momo.CommandRunner;
 import momo.Momo;
+import momo.Response;
 
 /**
  * Controller for the main GUI.
+ *
+ * <p>The conversation is kept as a list of {@link Message} objects shown in a
+ * {@link ListView}, which only lays out the messages that are visible. Only the latest
+ * {@value #MAX_MESSAGES} messages are kept, so a long session does not keep growing.</p>
+ *
+ * <p>Inputs are handled by a {@link CommandRunner} in the background, so the window stays
+ * responsive while a command runs. Each input is answered by a pending reply at once,
+ * which is replaced by Momo's response when it arrives.</p>
  */
 public class MainWindow extends AnchorPane {
+    private static final int MAX_MESSAGES = 500;
+    private static final String PENDING_TEXT = "Working on it...";
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<Message> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
 
     private Momo momo;
+    private CommandRunner commandRunner;
+
+    private final ObservableList<Message> messages = FXCollections.observableArrayList();
+    private MessageListSkin dialogListSkin;
 
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUserCircle.png"));
     private Image momoImage = new Image(this.getClass().getResourceAsStream("/images/DaMomoCircle.png"));
@@ -31,16 +48,17 @@ public class MainWindow extends AnchorPane {
     /**
      * Initializes the controller.
      *
-     * <p>Binds the scroll pane to the dialog container height and shows Momo's welcome message.</p>
+     * <p>Sets up the message list to show each message in a {@link MessageCell} and shows Momo's
+     * welcome message.</p>
      */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
-        Platform.runLater(() -> {
-            dialogContainer.getChildren().add(
-                    DialogBox.getMomoDialog(momo.getWelcomeMessage(), momoImage, "Greet")
-            );
-        });
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(listView -> new MessageCell(listView, userImage, momoImage));
+        dialogListSkin = new MessageListSkin(dialogList);
+        dialogList.setSkin(dialogListSkin);
+        dialogList.setFocusTraversable(false);
+        Platform.runLater(() -> addMessages(Message.fromMomo(momo.getWelcomeMessage(), "Greet")));
     }
 
     /** Injects the Momo instance */
@@ -48,29 +66,85 @@ public class MainWindow extends AnchorPane {
         momo = m;
     }
 
+    /** Injects the runner that handles user inputs */
+    public void setCommandRunner(CommandRunner runner) {
+        commandRunner = runner;
+    }
+
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Momo's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Adds two messages, one echoing user input and the other a pending reply, to the
+     * conversation, and submits the input to be handled. Clears the user input.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
+        userInput.clear();
         if (input.isBlank()) {
-            userInput.clear();
             return;
         }
 
-        boolean isExit = momo.isExit(input);
-        String response = momo.getResponse(input);
-        String commandType = momo.getCommandType();
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getMomoDialog(response, momoImage, commandType)
-        );
-        if (isExit) {
+        Message pending = Message.fromMomo(PENDING_TEXT, "Pending");
+        addMessages(Message.fromUser(input), pending);
+        commandRunner.submit(input, response -> showResponse(pending, response));
+    }
+
+    /**
+     * Replaces the pending reply with Momo's response, and exits if the response asks to.
+     * Inputs can no longer be entered once Momo is exiting.
+     */
+    private void showResponse(Message pending, Response response) {
+        Message reply = Message.fromMomo(response.getText(), response.getCommandType());
+        int index = messages.lastIndexOf(pending);
+        if (index >= 0) {
+            messages.set(index, reply);
+            dialogListSkin.scrollToLast();
+        } else {
+            addMessages(reply);
+        }
+        if (response.isExit()) {
+            userInput.setDisable(true);
+            sendButton.setDisable(true);
             // Delay a little to show the bye message, then exit
             Platform.runLater(Platform::exit);
         }
-        userInput.clear();
+    }
+
+    /**
+     * Appends messages to the conversation, drops the oldest messages beyond the limit,
+     * and scrolls to the latest message.
+     */
+    private void addMessages(Message... added) {
+        messages.addAll(added);
+        int excess = messages.size() - MAX_MESSAGES;
+        if (excess > 0) {
+            messages.remove(0, excess);
+        }
+        dialogListSkin.scrollToLast();
+    }
+
+    /**
+     * Skin of the message list that can scroll the latest message fully into view.
+     *
+     * <p>{@link ListView#scrollTo(int)} places the list using estimated message heights,
+     * which go stale once the oldest messages are dropped, and can stop just short of the
+     * latest message. The skin's {@link javafx.scene.control.skin.VirtualFlow} scrolls by
+     * the cells it has laid out instead.</p>
+     */
+    private static class MessageListSkin extends ListViewSkin<Message> {
+        private MessageListSkin(ListView<Message> listView) {
+            super(listView);
+        }
+
+        /**
+         * Lays out the messages added or changed since the last pulse, then scrolls until
+         * the last message is fully visible.
+         */
+        private void scrollToLast() {
+            int count = getSkinnable().getItems().size();
+            if (count > 0) {
+                getSkinnable().layout();
+                getVirtualFlow().scrollTo(count - 1);
+            }
+        }
     }
 }
@@ -0,0 +1,53 @@
+package momo.gui;
+
+/**
+ * Represents one message in the conversation shown in the main window.
+ *
+ * <p>Messages hold only the text and how it should be shown, so the conversation can be
+ * kept as a list of messages while a small number of {@link DialogBox} nodes are reused
+ * to display whichever messages are on screen.</p>
+ */
+public class Message {
+    private final String text;
+    private final String commandType;
+    private final boolean isUser;
+
+    private Message(String text, String commandType, boolean isUser) {
+        this.text = text;
+        this.commandType = commandType;
+        this.isUser = isUser;
+    }
+
+    /**
+     * Creates a message entered by the user.
+     *
+     * @param text the text entered by the user.
+     * @return the message.
+     */
+    public static Message fromUser(String text) {
+        return new Message(text, "", true);
+    }
+
+    /**
+     * Creates a message replied by Momo.
+     *
+     * @param text the response text from Momo.
+     * @param commandType the type of command that triggered the response.
+     * @return the message.
+     */
+    public static Message fromMomo(String text, String commandType) {
+        return new Message(text, commandType, false);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public String getCommandType() {
+        return commandType;
+    }
+
+    public boolean isUser() {
+        return isUser;
+    }
+}
@@ -0,0 +1,59 @@
+package momo.gui;
+
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+import momo.metrics.FlightRecording;
+import momo.metrics.RenderEvent;
+
+/**
+ * Displays a message of the conversation in a {@link ListView}.
+ *
+ * <p>The list view only creates enough cells to fill the visible area and moves them to
+ * other messages as the conversation scrolls, so each cell builds a single
+ * {@link DialogBox} and shows whichever message it is given in it. Each message shown
+ * records a {@link RenderEvent} for Java Flight Recorder.</p>
+ */
+public class MessageCell extends ListCell<Message> {
+    /** Width left for the vertical scroll bar, so dialogs are never covered by it. */
+    private static final double SCROLL_BAR_ALLOWANCE = 20;
+
+    private final DialogBox dialogBox = new DialogBox();
+    private final Image userImage;
+    private final Image momoImage;
+
+    /**
+     * Creates a new {@code MessageCell}.
+     *
+     * @param listView the list view the cell belongs to, whose width the dialog box fills.
+     * @param userImage the user's profile image.
+     * @param momoImage Momo's profile image.
+     */
+    public MessageCell(ListView<Message> listView, Image userImage, Image momoImage) {
+        this.userImage = userImage;
+        this.momoImage = momoImage;
+        // Lets the dialog wrap to the list width instead of widening the cell.
+        setPrefWidth(0);
+        dialogBox.prefWidthProperty().bind(listView.widthProperty().subtract(SCROLL_BAR_ALLOWANCE));
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+    }
+
+    @Override
+    protected void updateItem(Message message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        RenderEvent event = FlightRecording.isEnabled() ? new RenderEvent() : null;
+        dialogBox.show(message, message.isUser() ? userImage : momoImage);
+        setGraphic(dialogBox);
+        if (event != null && event.shouldCommit()) {
+            event.setCommandType(message.getCommandType());
+            event.setCharCount(message.getText().length());
+            event.setUser(message.isUser());
+            event.commit();
+        }
+    }
+}
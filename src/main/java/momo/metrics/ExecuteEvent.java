@@ -0,0 +1,61 @@
+package momo.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for the execution of one command.
+ * Only create it when {@link FlightRecording#isEnabled()} is {@code true}.
+ */
+@Name("momo.Execute")
+@Label("Execute Command")
+@Category("Momo")
+@Description("Execution of one command against the task list")
+public class ExecuteEvent extends Event {
+    @Label("Command Class")
+    private Class<?> commandClass;
+
+    @Label("Task Count")
+    @Description("The number of tasks in the list after the command ran")
+    private int taskCount;
+
+    @Label("Failed")
+    private boolean isFailed;
+
+    /**
+     * Creates a new {@code ExecuteEvent} and starts timing it.
+     */
+    public ExecuteEvent() {
+        begin();
+    }
+
+    /**
+     * Sets the class of the command executed.
+     *
+     * @param commandClass the class of the command executed.
+     */
+    public void setCommandClass(Class<?> commandClass) {
+        this.commandClass = commandClass;
+    }
+
+    /**
+     * Sets the number of tasks in the list after the command ran.
+     *
+     * @param taskCount the number of tasks in the list after the command ran.
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    /**
+     * Sets whether the command threw an exception.
+     *
+     * @param isFailed whether the command threw an exception.
+     */
+    public void setFailed(boolean isFailed) {
+        this.isFailed = isFailed;
+    }
+}
@@ -0,0 +1,27 @@
+package momo.metrics;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Decides whether Momo creates its Java Flight Recorder events.
+ *
+ * <p>Loading the first event class makes the JVM set up the flight recorder, which takes
+ * about a quarter of a second even when nothing is being recorded. Events are therefore
+ * only created once the flight recorder has been started, either with
+ * {@code -XX:StartFlightRecording} or later with {@code jcmd <pid> JFR.start}. Until then,
+ * each place that records an event pays for a single check.</p>
+ */
+public final class FlightRecording {
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Returns whether events should be created.
+     *
+     * @return {@code true} if the flight recorder has been started in this JVM.
+     */
+    public static boolean isEnabled() {
+        return FlightRecorder.isInitialized();
+    }
+}
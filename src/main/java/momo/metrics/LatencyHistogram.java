@@ -0,0 +1,109 @@
+package momo.metrics;
+
+/**
+ * Counts recorded durations in buckets whose width grows with the duration, so percentiles
+ * can be read back to within 1/64 (about 1.6%) using a fixed amount of memory.
+ *
+ * <p>As in HdrHistogram, durations below {@value #SUB_BUCKET_COUNT} nanoseconds each have a
+ * bucket of their own. Every doubling above that is split into {@value #HALF_SUB_BUCKET_COUNT}
+ * buckets of equal width, so a bucket is never wider than 1/64 of the durations it holds.
+ * Durations longer than about 73 minutes are counted as 73 minutes.</p>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_MAGNITUDE = 42;
+    private static final long MAX_VALUE = (1L << MAX_MAGNITUDE) - 1;
+
+    private final long[] counts = new long[toIndex(MAX_VALUE) + 1];
+    private long totalCount;
+    private long totalValue;
+    private long maxValue;
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the duration in nanoseconds; negative durations are counted as zero.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts[toIndex(value)]++;
+        totalCount++;
+        totalValue += value;
+        maxValue = Math.max(maxValue, value);
+    }
+
+    /**
+     * Returns the number of durations recorded.
+     *
+     * @return the count.
+     */
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the longest duration recorded.
+     *
+     * @return the duration in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public synchronized long getMax() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the mean of the durations recorded.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public synchronized long getMean() {
+        return totalCount == 0 ? 0 : totalValue / totalCount;
+    }
+
+    /**
+     * Returns the duration that the given percentage of recorded durations do not exceed.
+     *
+     * @param percentile the percentage, from 0 to 100.
+     * @return the highest duration in the bucket holding that percentile, in nanoseconds,
+     *         or 0 if nothing has been recorded.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= target) {
+                return Math.min(highestValueAt(index), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Returns the bucket that holds the value.
+     */
+    private static int toIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + (subBucket - HALF_SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Returns the highest value that falls into the bucket.
+     */
+    private static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,70 @@
+package momo.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for the loading of the tasks at startup.
+ * Only create it when {@link FlightRecording#isEnabled()} is {@code true}.
+ */
+@Name("momo.Load")
+@Label("Load Tasks")
+@Category("Momo")
+public class LoadEvent extends Event {
+    @Label("Task Count")
+    private int taskCount;
+
+    @Label("Replayed Records")
+    private int replayedCount;
+
+    @Label("Quarantined Lines")
+    private int quarantinedCount;
+
+    @Label("Failed")
+    private boolean isFailed;
+
+    /**
+     * Creates a new {@code LoadEvent} and starts timing it.
+     */
+    public LoadEvent() {
+        begin();
+    }
+
+    /**
+     * Sets the number of tasks loaded.
+     *
+     * @param taskCount the number of tasks loaded.
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    /**
+     * Sets the number of journal records replayed.
+     *
+     * @param replayedCount the number of journal records replayed.
+     */
+    public void setReplayedCount(int replayedCount) {
+        this.replayedCount = replayedCount;
+    }
+
+    /**
+     * Sets the number of malformed lines skipped.
+     *
+     * @param quarantinedCount the number of malformed lines skipped.
+     */
+    public void setQuarantinedCount(int quarantinedCount) {
+        this.quarantinedCount = quarantinedCount;
+    }
+
+    /**
+     * Sets whether loading failed and the task list was cleared.
+     *
+     * @param isFailed whether loading failed and the task list was cleared.
+     */
+    public void setFailed(boolean isFailed) {
+        this.isFailed = isFailed;
+    }
+}
@@ -0,0 +1,222 @@
+package momo.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each kind of command takes to parse and execute, how many bytes it
+ * allocates, and how long writes to the disk take.
+ *
+ * <p>Durations are kept in a {@link LatencyHistogram} per command class and per kind of
+ * write, so the report can show percentiles and not just averages. Allocated bytes are read
+ * from the {@link ThreadMXBean} of the thread that runs the command, when the JVM supports
+ * it. One set of metrics is shared by the whole application through {@link #getGlobal()}.</p>
+ */
+public class Metrics {
+    private static final Metrics GLOBAL = new Metrics();
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean IS_ALLOCATION_SUPPORTED = isAllocationSupported();
+
+    private final Map<String, CommandStats> commands = new TreeMap<>();
+    private final Map<String, WriteStats> writes = new TreeMap<>();
+    private ScheduledExecutorService dumper;
+    private Path dumpPath;
+    private Thread finalDump;
+
+    /**
+     * Holds the metrics of one command class.
+     */
+    private static class CommandStats {
+        final LatencyHistogram parse = new LatencyHistogram();
+        final LatencyHistogram execute = new LatencyHistogram();
+        private long allocatedBytes;
+        private long allocationCount;
+    }
+
+    /**
+     * Holds the metrics of one kind of write.
+     */
+    private static class WriteStats {
+        final LatencyHistogram duration = new LatencyHistogram();
+        private long bytes;
+    }
+
+    /**
+     * Returns the metrics shared by the whole application.
+     *
+     * @return the shared metrics.
+     */
+    public static Metrics getGlobal() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far.
+     *
+     * @return the allocated bytes, or -1 if the JVM cannot measure them.
+     */
+    public static long getAllocatedBytes() {
+        return IS_ALLOCATION_SUPPORTED
+                ? ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes()
+                : -1;
+    }
+
+    private static boolean isAllocationSupported() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+        return threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Records one handled command.
+     *
+     * @param commandType the simple class name of the command, or "Error" if it failed.
+     * @param parseNanos the time taken to parse the input, in nanoseconds.
+     * @param executeNanos the time taken to execute the command, in nanoseconds.
+     * @param allocatedBytes the bytes allocated while handling the input, or -1 if unknown.
+     */
+    public synchronized void recordCommand(String commandType, long parseNanos, long executeNanos,
+            long allocatedBytes) {
+        CommandStats stats = commands.computeIfAbsent(commandType, type -> new CommandStats());
+        stats.parse.record(parseNanos);
+        stats.execute.record(executeNanos);
+        if (allocatedBytes >= 0) {
+            stats.allocatedBytes += allocatedBytes;
+            stats.allocationCount++;
+        }
+    }
+
+    /**
+     * Records one write to the disk.
+     *
+     * @param kind the kind of write, such as "Journal" or "Snapshot".
+     * @param nanos the time taken by the write, in nanoseconds.
+     * @param bytes the number of bytes written.
+     */
+    public synchronized void recordWrite(String kind, long nanos, long bytes) {
+        WriteStats stats = writes.computeIfAbsent(kind, type -> new WriteStats());
+        stats.duration.record(nanos);
+        stats.bytes += bytes;
+    }
+
+    /**
+     * Returns a report of every metric recorded so far.
+     *
+     * @return the report as a string.
+     */
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder("Here are the metrics since Momo started:\nCommands:");
+        if (commands.isEmpty()) {
+            report.append("\n  none yet");
+        }
+        for (Map.Entry<String, CommandStats> entry : commands.entrySet()) {
+            CommandStats stats = entry.getValue();
+            report.append("\n  ").append(entry.getKey()).append(": ").append(stats.execute.getCount())
+                    .append(" calls, parse p50 ").append(formatNanos(stats.parse.getValueAtPercentile(50)))
+                    .append(", execute p50 ").append(formatNanos(stats.execute.getValueAtPercentile(50)))
+                    .append(" p99 ").append(formatNanos(stats.execute.getValueAtPercentile(99)))
+                    .append(" max ").append(formatNanos(stats.execute.getMax()));
+            if (stats.allocationCount > 0) {
+                report.append(", ").append(formatBytes(stats.allocatedBytes / stats.allocationCount))
+                        .append(" allocated per call");
+            }
+        }
+        report.append("\nWrites:");
+        if (writes.isEmpty()) {
+            report.append("\n  none yet");
+        }
+        for (Map.Entry<String, WriteStats> entry : writes.entrySet()) {
+            WriteStats stats = entry.getValue();
+            report.append("\n  ").append(entry.getKey()).append(": ").append(stats.duration.getCount())
+                    .append(" writes, ").append(formatBytes(stats.bytes)).append(" in total, p50 ")
+                    .append(formatNanos(stats.duration.getValueAtPercentile(50)))
+                    .append(" p99 ").append(formatNanos(stats.duration.getValueAtPercentile(99)))
+                    .append(" max ").append(formatNanos(stats.duration.getMax()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to the given file at a fixed interval on a background thread,
+     * and once more when the dump is stopped or the application exits. Only the first call
+     * before {@link #stopPeriodicDump()} has any effect.
+     *
+     * @param filePath the file to overwrite with the report.
+     * @param intervalSeconds the number of seconds between writes.
+     */
+    public synchronized void startPeriodicDump(Path filePath, long intervalSeconds) {
+        if (dumper != null) {
+            return;
+        }
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "momo-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> dump(filePath), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        dumpPath = filePath;
+        finalDump = new Thread(() -> dump(filePath), "momo-metrics-final-dump");
+        Runtime.getRuntime().addShutdownHook(finalDump);
+    }
+
+    /**
+     * Stops the periodic dump, if one is running, and writes the report one last time.
+     * Nothing is left behind to run when the application exits.
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumper == null) {
+            return;
+        }
+        dumper.shutdownNow();
+        try {
+            Runtime.getRuntime().removeShutdownHook(finalDump);
+            dump(dumpPath);
+        } catch (IllegalStateException e) {
+            // The application is already exiting, so the hook writes the report itself.
+        }
+        dumper = null;
+        dumpPath = null;
+        finalDump = null;
+    }
+
+    private void dump(Path filePath) {
+        try {
+            Files.createDirectories(filePath.toAbsolutePath().getParent());
+            Files.writeString(filePath, "Written at " + LocalDateTime.now() + "\n" + report() + "\n");
+        } catch (IOException e) {
+            System.out.println("Error saving metrics in hard disk: " + e.getMessage());
+        }
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + " ns";
+        } else if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.1f us", nanos / 1e3);
+        } else if (nanos < 1_000_000_000) {
+            return String.format(Locale.ROOT, "%.1f ms", nanos / 1e6);
+        }
+        return String.format(Locale.ROOT, "%.2f s", nanos / 1e9);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MiB", bytes / (1024.0 * 1024));
+    }
+}
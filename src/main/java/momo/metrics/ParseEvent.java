@@ -0,0 +1,49 @@
+package momo.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for the parsing of one input into a command.
+ * Only create it when {@link FlightRecording#isEnabled()} is {@code true}.
+ */
+@Name("momo.Parse")
+@Label("Parse Command")
+@Category("Momo")
+@Description("Parsing of one user input into a command")
+public class ParseEvent extends Event {
+    @Label("Command Class")
+    @Description("The command parsed, or null if the input was invalid")
+    private Class<?> commandClass;
+
+    @Label("Input Length")
+    private int inputLength;
+
+    /**
+     * Creates a new {@code ParseEvent} and starts timing it.
+     */
+    public ParseEvent() {
+        begin();
+    }
+
+    /**
+     * Sets the class of the command parsed.
+     *
+     * @param commandClass the class of the command parsed.
+     */
+    public void setCommandClass(Class<?> commandClass) {
+        this.commandClass = commandClass;
+    }
+
+    /**
+     * Sets the number of characters in the input.
+     *
+     * @param inputLength the number of characters in the input.
+     */
+    public void setInputLength(int inputLength) {
+        this.inputLength = inputLength;
+    }
+}
@@ -0,0 +1,64 @@
+package momo.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for one write of tasks to the disk.
+ * Only create it when {@link FlightRecording#isEnabled()} is {@code true}.
+ */
+@Name("momo.Persist")
+@Label("Persist Tasks")
+@Category("Momo")
+@Description("One write of journal records or a snapshot to the disk")
+public class PersistEvent extends Event {
+    @Label("Kind")
+    @Description("Journal or Snapshot")
+    private String kind;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    @Label("Record Count")
+    @Description("The number of journal records written, or 0 for a snapshot")
+    private int recordCount;
+
+    /**
+     * Creates a new {@code PersistEvent} and starts timing it.
+     */
+    public PersistEvent() {
+        begin();
+    }
+
+    /**
+     * Sets the kind of write, such as "Journal" or "Snapshot".
+     *
+     * @param kind the kind of write, such as "Journal" or "Snapshot".
+     */
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Sets the number of bytes written.
+     *
+     * @param bytesWritten the number of bytes written.
+     */
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+
+    /**
+     * Sets the number of journal records written.
+     *
+     * @param recordCount the number of journal records written.
+     */
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+}
@@ -0,0 +1,60 @@
+package momo.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for showing one message in the conversation.
+ * Only create it when {@link FlightRecording#isEnabled()} is {@code true}.
+ */
+@Name("momo.Render")
+@Label("Render Message")
+@Category("Momo")
+@Description("Showing of one message of the conversation in a dialog box")
+public class RenderEvent extends Event {
+    @Label("Command Type")
+    private String commandType;
+
+    @Label("Chars Rendered")
+    private int charCount;
+
+    @Label("From User")
+    private boolean isUser;
+
+    /**
+     * Creates a new {@code RenderEvent} and starts timing it.
+     */
+    public RenderEvent() {
+        begin();
+    }
+
+    /**
+     * Sets the type of the command that the message replies to.
+     *
+     * @param commandType the type of the command that the message replies to.
+     */
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    /**
+     * Sets the number of characters in the message.
+     *
+     * @param charCount the number of characters in the message.
+     */
+    public void setCharCount(int charCount) {
+        this.charCount = charCount;
+    }
+
+    /**
+     * Sets whether the message was typed by the user.
+     *
+     * @param isUser whether the message was typed by the user.
+     */
+    public void setUser(boolean isUser) {
+        this.isUser = isUser;
+    }
+}
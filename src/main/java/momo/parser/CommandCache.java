@@ -0,0 +1,51 @@
+package momo.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import momo.command.Command;
+import momo.exception.MomoException;
+
+/**
+ * Caches the commands parsed from the most recently used inputs.
+ *
+ * <p>Commands hold only the values parsed from the input and create their tasks when
+ * executed, so a cached command can be executed again. Inputs that fail to parse are
+ * not cached. The least recently used entry is evicted once the cache is full.
+ * This class is not thread-safe.</p>
+ */
+public class CommandCache {
+    private final Map<String, Command> commands;
+
+    /**
+     * Creates a new {@code CommandCache}.
+     *
+     * @param capacity the maximum number of commands to keep.
+     */
+    public CommandCache(int capacity) {
+        assert capacity > 0 : "Capacity must be positive";
+
+        this.commands = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Command> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the command for the given input, parsing it only if it is not cached.
+     *
+     * @param trimmedInput the trimmed user input string.
+     * @return the {@link Command} corresponding to the user input.
+     * @throws MomoException if the input is invalid, incomplete, or formatted incorrectly.
+     */
+    public Command parse(String trimmedInput) throws MomoException {
+        Command command = commands.get(trimmedInput);
+        if (command == null) {
+            command = Parser.parseToCommand(trimmedInput);
+            commands.put(trimmedInput, command);
+        }
+        return command;
+    }
+}
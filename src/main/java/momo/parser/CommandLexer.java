@@ -0,0 +1,250 @@
+package momo.parser;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import momo.task.DateTimeCodec;
+
+/**
+ * Locates the parts of a user command in a single pass over the input.
+ *
+ * <p>The command word ends at the first space, and everything after that space is
+ * the argument. While scanning the argument, the lexer records the position of the
+ * first {@code " /by "} and {@code " /from "} markers, and of the first {@code " /to "}
+ * marker that follows {@code " /from "}. Only offsets are recorded, so no strings are
+ * created until a caller asks for the text of a part.</p>
+ */
+final class CommandLexer {
+    static final String BY_MARKER = " /by ";
+    static final String FROM_MARKER = " /from ";
+    static final String TO_MARKER = " /to ";
+    static final int NOT_FOUND = -1;
+
+    private final CharSequence input;
+    private final int commandEnd;
+    private int byStart = NOT_FOUND;
+    private int fromStart = NOT_FOUND;
+    private int toStart = NOT_FOUND;
+
+    /**
+     * Creates a new {@code CommandLexer} and scans the input.
+     *
+     * @param input the user input.
+     */
+    CommandLexer(CharSequence input) {
+        this.input = input;
+        int end = input.length();
+        int spaceIndex = 0;
+        while (spaceIndex < end && input.charAt(spaceIndex) != ' ') {
+            spaceIndex++;
+        }
+        this.commandEnd = spaceIndex;
+
+        for (int i = spaceIndex + 1; i < end; i++) {
+            if (input.charAt(i) != ' ' || i + 1 >= end || input.charAt(i + 1) != '/') {
+                continue;
+            }
+            if (byStart == NOT_FOUND && matches(BY_MARKER, i)) {
+                byStart = i;
+            } else if (fromStart == NOT_FOUND && matches(FROM_MARKER, i)) {
+                fromStart = i;
+            } else if (fromStart != NOT_FOUND && toStart == NOT_FOUND
+                    && i >= fromStart + FROM_MARKER.length() && matches(TO_MARKER, i)) {
+                toStart = i;
+            }
+        }
+    }
+
+    private boolean matches(String marker, int start) {
+        if (start + marker.length() > input.length()) {
+            return false;
+        }
+        for (int i = 0; i < marker.length(); i++) {
+            if (input.charAt(start + i) != marker.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the known command word that the input starts with.
+     *
+     * @param commandWords the known command words.
+     * @return the matching element of {@code commandWords}, or an empty string if none matches.
+     */
+    String matchCommand(String[] commandWords) {
+        for (String commandWord : commandWords) {
+            if (commandWord.length() == commandEnd && matches(commandWord, 0)) {
+                return commandWord;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Returns whether the command word is followed by an argument.
+     * An argument exists whenever the input contains a space, even if nothing follows it.
+     *
+     * @return {@code true} if the input has an argument.
+     */
+    boolean hasArgument() {
+        return commandEnd < input.length();
+    }
+
+    /**
+     * Returns the offset at which the argument starts.
+     *
+     * @return the offset just after the first space.
+     */
+    int getArgumentStart() {
+        return commandEnd + 1;
+    }
+
+    /**
+     * Returns the length of the input.
+     *
+     * @return the offset just after the last character.
+     */
+    int getEnd() {
+        return input.length();
+    }
+
+    /**
+     * Returns the offset of the first {@code " /by "} marker in the argument.
+     *
+     * @return the offset, or {@link #NOT_FOUND}.
+     */
+    int getByStart() {
+        return byStart;
+    }
+
+    /**
+     * Returns the offset of the first {@code " /from "} marker in the argument.
+     *
+     * @return the offset, or {@link #NOT_FOUND}.
+     */
+    int getFromStart() {
+        return fromStart;
+    }
+
+    /**
+     * Returns the offset of the first {@code " /to "} marker after the {@code " /from "} marker.
+     *
+     * @return the offset, or {@link #NOT_FOUND}.
+     */
+    int getToStart() {
+        return toStart;
+    }
+
+    /**
+     * Returns the text between two offsets.
+     *
+     * @param start the start offset, inclusive.
+     * @param end the end offset, exclusive.
+     * @return the text.
+     */
+    String getText(int start, int end) {
+        return input.subSequence(start, end).toString();
+    }
+
+    /**
+     * Parses the date and time in the storage format between two offsets.
+     *
+     * @param start the start offset, inclusive.
+     * @param end the end offset, exclusive.
+     * @return the parsed date and time.
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date and time.
+     */
+    LocalDateTime parseDateTime(int start, int end) {
+        return DateTimeCodec.parse(input, start, end);
+    }
+
+    /**
+     * Parses the ISO date, such as {@code 2025-09-25}, between two offsets.
+     *
+     * @param start the start offset, inclusive.
+     * @param end the end offset, exclusive.
+     * @return the parsed date.
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date.
+     */
+    LocalDate parseDate(int start, int end) {
+        return LocalDate.parse(input.subSequence(start, end));
+    }
+
+    /**
+     * Returns the offset of the first space at or after the given offset.
+     *
+     * @param start the offset to start searching from.
+     * @return the offset of the space, or {@link #NOT_FOUND} if there is none.
+     */
+    int findSpace(int start) {
+        for (int i = start; i < input.length(); i++) {
+            if (input.charAt(i) == ' ') {
+                return i;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the offset of the first character at or after the given offset that is not a space.
+     *
+     * @param start the offset to start searching from.
+     * @return the offset of the character, or the length of the input if only spaces follow.
+     */
+    int skipSpaces(int start) {
+        int i = start;
+        while (i < input.length() && input.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns whether the text between two offsets is exactly the given text.
+     *
+     * @param start the start offset, inclusive.
+     * @param end the end offset, exclusive.
+     * @param text the expected text.
+     * @return {@code true} if the text between the offsets equals {@code text}.
+     */
+    boolean hasTextAt(int start, int end, String text) {
+        return end - start == text.length() && matches(text, start);
+    }
+
+    /**
+     * Returns whether the input has the given single-character prefix at the given offset.
+     *
+     * @param offset the offset to check.
+     * @param prefix the expected character, as a string of length one.
+     * @return {@code true} if the character at {@code offset} matches.
+     */
+    boolean hasCharAt(int offset, String prefix) {
+        return offset < input.length() && input.charAt(offset) == prefix.charAt(0);
+    }
+
+    /**
+     * Parses the decimal integer between two offsets.
+     *
+     * @param start the start offset, inclusive.
+     * @param end the end offset, exclusive.
+     * @return the parsed integer.
+     * @throws NumberFormatException if the text is not a valid integer.
+     */
+    int parseInt(int start, int end) {
+        return Integer.parseInt(input, start, end, 10);
+    }
+
+    /**
+     * Parses the decimal long integer between two offsets.
+     *
+     * @param start the start offset, inclusive.
+     * @param end the end offset, exclusive.
+     * @return the parsed integer.
+     * @throws NumberFormatException if the text is not a valid integer.
+     */
+    long parseLong(int start, int end) {
+        return Long.parseLong(input, start, end, 10);
+    }
+}
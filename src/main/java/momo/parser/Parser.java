@@ -1,41 +1,63 @@
 package momo.parser;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 
 import momo.command.AddDeadlineCommand;
 import momo.command.AddEventCommand;
 import momo.command.AddTodoCommand;
+import momo.command.AgendaCommand;
 import momo.command.Command;
 import momo.command.DeleteCommand;
+import momo.command.DueCommand;
 import momo.command.ExitCommand;
+import momo.command.ExportCommand;
 import momo.command.FindCommand;
+import momo.command.FreeCommand;
+import momo.command.FuzzyFindCommand;
 import momo.command.HelpCommand;
 import momo.command.ListCommand;
 import momo.command.MarkCommand;
+import momo.command.MetricsCommand;
+import momo.command.RunCommand;
+import momo.command.StatsCommand;
 import momo.command.UnmarkCommand;
 import momo.exception.MomoException;
+import momo.metrics.FlightRecording;
+import momo.metrics.ParseEvent;
+import momo.task.DateTimeCodec;
 import momo.task.Deadline;
 import momo.task.Event;
 import momo.task.Task;
+import momo.task.TaskReference;
 import momo.task.Todo;
+import momo.task.index.TokenIndex;
 
 /**
  * Parses user input and saved task strings into corresponding {@link Command} objects
  * or {@link Task} objects for the Momo application.
  */
 public class Parser {
-
-    /**
-     * Converts a string representation of date and time into {@link LocalDateTime}.
-     *
-     * @param localDateTime the date and time string in "yyyy-MM-dd HHmm" format.
-     * @return the parsed {@link LocalDateTime}.
-     */
-    private static LocalDateTime parseToLocalDateTime(String localDateTime) {
-        return LocalDateTime.parse(localDateTime, DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
-    }
+    private static final String[] COMMAND_WORDS = {
+        "help", "bye", "list", "export", "todo", "find", "deadline", "event", "delete", "mark", "unmark",
+        "due", "agenda", "free", "stats", "run", "metrics"
+    };
+    private static final String ID_PREFIX = "#";
+    private static final String FUZZY_PREFIX = "~";
+    private static final String QUERY_FLAG = "-q";
+    private static final String DEADLINE_ERROR_FIX =
+            "Fix: Try \"deadline <description> /by <yyyy-MM-dd HHmm>\" instead!";
+    private static final String LIST_ERROR_FIX = "Fix: Try \"list [done|undone] [page] [size]\" instead!";
+    private static final int LIST_MAX_WORDS = 3;
+    private static final String DUE_ERROR_FIX = "Fix: Try \"due <yyyy-MM-dd> <yyyy-MM-dd>\" instead!";
+    private static final String FREE_ERROR_FIX = "Fix: Try \"free <yyyy-MM-dd> <minutes>\" instead!";
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final String EVENT_ERROR_FIX = "Fix: Try \"event <description> /from <yyyy-MM-dd HHmm>"
+            + " /to <yyyy-MM-dd HHmm>\" instead!";
 
     /**
      * Parses the "help" command into a {@link HelpCommand}.
@@ -57,127 +79,342 @@ public class Parser {
 
     /**
      * Parses the "list" command into a {@link ListCommand}.
+     * The command may be followed by "done" or "undone", then by a page number and a page size.
      *
+     * @param lexer the scanned user input.
      * @return a new {@link ListCommand}.
+     * @throws MomoException if the filter is unknown, or the page number or size is invalid.
+     */
+    private static Command parseList(CommandLexer lexer) throws MomoException {
+        if (!lexer.hasArgument()) {
+            return new ListCommand();
+        }
+        int[] wordStarts = new int[LIST_MAX_WORDS];
+        int[] wordEnds = new int[LIST_MAX_WORDS];
+        int wordCount = 0;
+        int start = lexer.skipSpaces(lexer.getArgumentStart());
+        while (start < lexer.getEnd()) {
+            if (wordCount == LIST_MAX_WORDS) {
+                String errorDetail = "The list command has too many arguments!";
+                throw new MomoException(errorDetail + "\n" + LIST_ERROR_FIX);
+            }
+            int space = lexer.findSpace(start);
+            wordStarts[wordCount] = start;
+            wordEnds[wordCount] = space == CommandLexer.NOT_FOUND ? lexer.getEnd() : space;
+            start = lexer.skipSpaces(wordEnds[wordCount]);
+            wordCount++;
+        }
+        if (wordCount == 0) {
+            return new ListCommand();
+        }
+
+        ListCommand.Filter filter = ListCommand.Filter.ALL;
+        int next = 0;
+        if (lexer.hasTextAt(wordStarts[0], wordEnds[0], "done")) {
+            filter = ListCommand.Filter.DONE;
+            next++;
+        } else if (lexer.hasTextAt(wordStarts[0], wordEnds[0], "undone")) {
+            filter = ListCommand.Filter.UNDONE;
+            next++;
+        }
+        if (wordCount - next > 2) {
+            String errorDetail = "The list command has too many arguments!";
+            throw new MomoException(errorDetail + "\n" + LIST_ERROR_FIX);
+        }
+
+        int page;
+        int pageSize;
+        try {
+            page = next < wordCount ? lexer.parseInt(wordStarts[next], wordEnds[next]) : 1;
+            pageSize = next + 1 < wordCount
+                    ? lexer.parseInt(wordStarts[next + 1], wordEnds[next + 1])
+                    : ListCommand.DEFAULT_PAGE_SIZE;
+        } catch (NumberFormatException e) {
+            String errorDetail = next == 0 && wordCount == 1
+                    ? "Tasks can only be listed by \"done\" or \"undone\", or by page!"
+                    : "The page number and size must be integers!";
+            throw new MomoException(errorDetail + "\n" + LIST_ERROR_FIX);
+        }
+        if (page <= 0 || pageSize <= 0 || pageSize > ListCommand.MAX_PAGE_SIZE) {
+            String errorDetail = "The page number must be positive, and the page size from 1 to "
+                    + ListCommand.MAX_PAGE_SIZE + "!";
+            throw new MomoException(errorDetail + "\n" + LIST_ERROR_FIX);
+        }
+        return new ListCommand(filter, page, pageSize);
+    }
+
+    /**
+     * Parses the "stats" command into a {@link StatsCommand}.
+     *
+     * @return a new {@link StatsCommand}.
+     */
+    private static Command parseStats() {
+        return new StatsCommand();
+    }
+
+    /**
+     * Parses the "metrics" command into a {@link MetricsCommand}.
+     *
+     * @return a new {@link MetricsCommand}.
      */
-    private static Command parseList() {
-        return new ListCommand();
+    private static Command parseMetrics() {
+        return new MetricsCommand();
+    }
+
+    /**
+     * Parses the "export" command into an {@link ExportCommand}.
+     *
+     * @return a new {@link ExportCommand}.
+     */
+    private static Command parseExport() {
+        return new ExportCommand();
+    }
+
+    /**
+     * Parses a "run" command into a {@link RunCommand}.
+     *
+     * @param lexer the scanned user input.
+     * @return a new {@link RunCommand}.
+     * @throws MomoException if the file is missing or is not a valid path.
+     */
+    private static Command parseRun(CommandLexer lexer) throws MomoException {
+        String errorFix = "Fix: Try \"run <file>\" instead!";
+        if (!lexer.hasArgument()) {
+            String errorDetail = "The file to run is missing!";
+            throw new MomoException(errorDetail + "\n" + errorFix);
+        }
+        try {
+            return new RunCommand(Path.of(lexer.getText(lexer.getArgumentStart(), lexer.getEnd())));
+        } catch (InvalidPathException e) {
+            String errorDetail = "The file to run is not a valid path!";
+            throw new MomoException(errorDetail + "\n" + errorFix);
+        }
     }
 
     /**
      * Parses a "todo" command into an {@link AddTodoCommand}.
      *
-     * @param components the user input split into command and description.
+     * @param lexer the scanned user input.
      * @return a new {@link AddTodoCommand}.
      * @throws MomoException if the description is missing.
      */
-    private static Command parseTodo(String[] components) throws MomoException {
-        if (components.length < 2) {
+    private static Command parseTodo(CommandLexer lexer) throws MomoException {
+        if (!lexer.hasArgument()) {
             String errorDetail = "The description of the todo is empty!";
             String errorFix = "Fix: Try \"todo <description>\" instead!";
             throw new MomoException(errorDetail + "\n" + errorFix);
         }
-        return new AddTodoCommand(components[1]);
+        return new AddTodoCommand(lexer.getText(lexer.getArgumentStart(), lexer.getEnd()));
     }
 
     /**
-     * Parses a "find" command into a {@link FindCommand}.
+     * Parses a "find" command into a {@link FindCommand}, or into a {@link FuzzyFindCommand}
+     * if the keyword starts with {@code ~}. A keyword after the {@code -q} flag is a query
+     * that may use {@code AND}, {@code OR} and a trailing {@code *}; any other keyword is
+     * matched as a substring, whatever characters it contains.
      *
-     * @param components the user input split into command and keyword.
-     * @return a new {@link FindCommand}.
-     * @throws MomoException if the keyword is missing.
+     * @param lexer the scanned user input.
+     * @return a new {@link FindCommand} or {@link FuzzyFindCommand}.
+     * @throws MomoException if the keyword or query is missing, or a fuzzy keyword is not a single word.
      */
-    private static Command parseFind(String[] components) throws MomoException {
-        if (components.length < 2) {
+    private static Command parseFind(CommandLexer lexer) throws MomoException {
+        if (!lexer.hasArgument()) {
             String errorDetail = "The keyword to find is missing!";
             String errorFix = "Fix: Try \"find <keyword>\" instead!";
             throw new MomoException(errorDetail + "\n" + errorFix);
         }
-        return new FindCommand((components[1]));
+        int start = lexer.getArgumentStart();
+        int space = lexer.findSpace(start);
+        int flagEnd = space == CommandLexer.NOT_FOUND ? lexer.getEnd() : space;
+        if (lexer.hasTextAt(start, flagEnd, QUERY_FLAG)) {
+            String query = flagEnd == lexer.getEnd() ? "" : lexer.getText(flagEnd + 1, lexer.getEnd()).trim();
+            if (query.isEmpty()) {
+                String errorDetail = "The query to find is missing!";
+                String errorFix = "Fix: Try \"find -q <word> AND <word>\" instead!";
+                throw new MomoException(errorDetail + "\n" + errorFix);
+            }
+            return new FindCommand(query, true);
+        }
+        if (!lexer.hasCharAt(start, FUZZY_PREFIX)) {
+            return new FindCommand(lexer.getText(start, lexer.getEnd()));
+        }
+
+        List<String> words = TokenIndex.tokenize(lexer.getText(start + FUZZY_PREFIX.length(), lexer.getEnd()));
+        if (words.size() != 1) {
+            String errorDetail = "A fuzzy search needs exactly one word!";
+            String errorFix = "Fix: Try \"find ~<word>\" instead!";
+            throw new MomoException(errorDetail + "\n" + errorFix);
+        }
+        return new FuzzyFindCommand(words.get(0));
+    }
+
+    /**
+     * Parses a "due" command into a {@link DueCommand}.
+     *
+     * @param lexer the scanned user input.
+     * @return a new {@link DueCommand}.
+     * @throws MomoException if either date is missing or invalid, or the dates are in the wrong order.
+     */
+    private static Command parseDue(CommandLexer lexer) throws MomoException {
+        int space = lexer.hasArgument() ? lexer.findSpace(lexer.getArgumentStart()) : CommandLexer.NOT_FOUND;
+        if (space == CommandLexer.NOT_FOUND) {
+            String errorDetail = "The start or end date is missing!";
+            throw new MomoException(errorDetail + "\n" + DUE_ERROR_FIX);
+        }
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = lexer.parseDate(lexer.getArgumentStart(), space);
+            to = lexer.parseDate(space + 1, lexer.getEnd());
+        } catch (DateTimeParseException e) {
+            String errorDetail = "The format of date entered is invalid!";
+            String example = "Example: due 2025-09-22 2025-09-28";
+            throw new MomoException(errorDetail + "\n" + DUE_ERROR_FIX + "\n" + example);
+        }
+        if (from.isAfter(to)) {
+            String errorDetail = "The start date is after the end date!";
+            throw new MomoException(errorDetail + "\n" + DUE_ERROR_FIX);
+        }
+        return new DueCommand(from, to);
+    }
+
+    /**
+     * Parses an "agenda" command into an {@link AgendaCommand}.
+     *
+     * @param lexer the scanned user input.
+     * @return a new {@link AgendaCommand}.
+     * @throws MomoException if the date is missing or invalid.
+     */
+    private static Command parseAgenda(CommandLexer lexer) throws MomoException {
+        String errorFix = "Fix: Try \"agenda <yyyy-MM-dd>\" instead!";
+        if (!lexer.hasArgument()) {
+            String errorDetail = "The date of the agenda is missing!";
+            throw new MomoException(errorDetail + "\n" + errorFix);
+        }
+        try {
+            return new AgendaCommand(lexer.parseDate(lexer.getArgumentStart(), lexer.getEnd()));
+        } catch (DateTimeParseException e) {
+            String errorDetail = "The format of date entered is invalid!";
+            throw new MomoException(errorDetail + "\n" + errorFix);
+        }
+    }
+
+    /**
+     * Parses a "free" command into a {@link FreeCommand}.
+     *
+     * @param lexer the scanned user input.
+     * @return a new {@link FreeCommand}.
+     * @throws MomoException if the date or duration is missing or invalid.
+     */
+    private static Command parseFree(CommandLexer lexer) throws MomoException {
+        int space = lexer.hasArgument() ? lexer.findSpace(lexer.getArgumentStart()) : CommandLexer.NOT_FOUND;
+        if (space == CommandLexer.NOT_FOUND) {
+            String errorDetail = "The date or duration is missing!";
+            throw new MomoException(errorDetail + "\n" + FREE_ERROR_FIX);
+        }
+        LocalDate date;
+        try {
+            date = lexer.parseDate(lexer.getArgumentStart(), space);
+        } catch (DateTimeParseException e) {
+            String errorDetail = "The format of date entered is invalid!";
+            throw new MomoException(errorDetail + "\n" + FREE_ERROR_FIX);
+        }
+        int minutes;
+        try {
+            minutes = lexer.parseInt(space + 1, lexer.getEnd());
+        } catch (NumberFormatException e) {
+            minutes = 0;
+        }
+        if (minutes <= 0 || minutes > MINUTES_PER_DAY) {
+            String errorDetail = "The duration must be a number of minutes from 1 to " + MINUTES_PER_DAY + "!";
+            throw new MomoException(errorDetail + "\n" + FREE_ERROR_FIX);
+        }
+        return new FreeCommand(date, minutes);
     }
 
     /**
      * Parses a "deadline" command into an {@link AddDeadlineCommand}.
      *
-     * @param components the user input split into command and arguments.
+     * @param lexer the scanned user input.
      * @return a new {@link AddDeadlineCommand}.
      * @throws MomoException if the description, date, or "/by" is missing, or the date format is invalid.
      */
-    private static Command parseDeadline(String[] components) throws MomoException {
-        String errorFix = "Fix: Try \"deadline <description> /by <yyyy-MM-dd HHmm>\" instead!";
-        if (components.length < 2) {
+    private static Command parseDeadline(CommandLexer lexer) throws MomoException {
+        if (!lexer.hasArgument()) {
             String errorDetail = "The description of the deadline is empty!";
-            throw new MomoException(errorDetail + "\n" + errorFix);
+            throw new MomoException(errorDetail + "\n" + DEADLINE_ERROR_FIX);
         }
-        String[] parsedDeadline = components[1].split(" /by ", 2);
-        if (parsedDeadline.length < 2) {
+        int byStart = lexer.getByStart();
+        if (byStart == CommandLexer.NOT_FOUND) {
             String errorDetail = "The deadline is missing \"/by\"!";
-            throw new MomoException(errorDetail + "\n" + errorFix);
+            throw new MomoException(errorDetail + "\n" + DEADLINE_ERROR_FIX);
         }
         try {
-            String description = parsedDeadline[0];
-            LocalDateTime by = parseToLocalDateTime(parsedDeadline[1]);
+            String description = lexer.getText(lexer.getArgumentStart(), byStart);
+            LocalDateTime by = lexer.parseDateTime(byStart + CommandLexer.BY_MARKER.length(), lexer.getEnd());
             return new AddDeadlineCommand(description, by);
         } catch (DateTimeParseException e) {
             String errorDetail = "The format of date and time entered is invalid!";
             String example = "Example: deadline return book /by 2025-04-07 1805";
-            throw new MomoException(errorDetail + "\n" + errorFix + "\n" + example);
+            throw new MomoException(errorDetail + "\n" + DEADLINE_ERROR_FIX + "\n" + example);
         }
     }
 
     /**
      * Parses an "event" command into an {@link AddEventCommand}.
      *
-     * @param components the user input split into command and arguments.
+     * @param lexer the scanned user input.
      * @return a new {@link AddEventCommand}.
      * @throws MomoException if the description, "/from", or "/to" is missing, or the date format is invalid.
      */
-    private static Command parseEvent(String[] components) throws MomoException {
-        String errorFix = "Fix: Try \"event <description> /from <yyyy-MM-dd HHmm>"
-                + " /to <yyyy-MM-dd HHmm>\" instead!";
-        if (components.length < 2) {
+    private static Command parseEvent(CommandLexer lexer) throws MomoException {
+        if (!lexer.hasArgument()) {
             String errorDetail = "The description of the event is empty!";
-            throw new MomoException(errorDetail + "\n" + errorFix);
+            throw new MomoException(errorDetail + "\n" + EVENT_ERROR_FIX);
         }
-        String[] parsedEvent = components[1].split(" /from ", 2);
-        if (parsedEvent.length < 2) {
+        int fromStart = lexer.getFromStart();
+        if (fromStart == CommandLexer.NOT_FOUND) {
             String errorDetail = "The event is missing \"/from\"!";
-            throw new MomoException(errorDetail + "\n" + errorFix);
+            throw new MomoException(errorDetail + "\n" + EVENT_ERROR_FIX);
         }
-        String[] parsedStartEndTime = parsedEvent[1].split(" /to ", 2);
-        if (parsedStartEndTime.length < 2) {
+        int toStart = lexer.getToStart();
+        if (toStart == CommandLexer.NOT_FOUND) {
             String errorDetail = "The event is missing \"/to\"!";
-            throw new MomoException(errorDetail + "\n" + errorFix);
+            throw new MomoException(errorDetail + "\n" + EVENT_ERROR_FIX);
         }
         try {
-            String description = parsedEvent[0];
-            LocalDateTime from = parseToLocalDateTime(parsedStartEndTime[0]);
-            LocalDateTime to = parseToLocalDateTime(parsedStartEndTime[1]);
+            String description = lexer.getText(lexer.getArgumentStart(), fromStart);
+            LocalDateTime from = lexer.parseDateTime(fromStart + CommandLexer.FROM_MARKER.length(), toStart);
+            LocalDateTime to = lexer.parseDateTime(toStart + CommandLexer.TO_MARKER.length(), lexer.getEnd());
             return new AddEventCommand(description, from, to);
         } catch (DateTimeParseException e) {
             String errorDetail = "The format of date and time entered is invalid!";
             String example = "Example: event project meeting /from 2025-04-07 1230 /to 2025-04-07 1330";
-            throw new MomoException(errorDetail + "\n" + errorFix + "\n" + example);
+            throw new MomoException(errorDetail + "\n" + EVENT_ERROR_FIX + "\n" + example);
         }
     }
 
-
     /**
-     * Parses the task index from a command input string.
+     * Parses the task reference from a command input string.
+     * The reference is either a task number, or a task identifier preceded by {@code #}.
      *
-     * @param components the user input split into command and index.
+     * @param lexer the scanned user input.
      * @param command the command name (for error messages).
-     * @return the zero-based task index.
-     * @throws MomoException if the index is missing or not a valid integer.
+     * @return the reference to the task.
+     * @throws MomoException if the reference is missing or not a valid integer.
      */
-    private static int parseTaskIndex(String[] components, String command) throws MomoException {
-        if (components.length < 2) {
+    private static TaskReference parseTaskReference(CommandLexer lexer, String command) throws MomoException {
+        if (!lexer.hasArgument()) {
             String errorDetail = "The task number to " + command + " is not provided!";
             String errorFix = "Fix: Try \"" + command + " <task number>\" instead!";
             throw new MomoException(errorDetail + "\n" + errorFix);
         }
+        int start = lexer.getArgumentStart();
         try {
-            return Integer.parseInt(components[1]) - 1;
+            if (lexer.hasCharAt(start, ID_PREFIX)) {
+                return TaskReference.ofId(lexer.parseLong(start + 1, lexer.getEnd()));
+            }
+            return TaskReference.ofIndex(lexer.parseInt(start, lexer.getEnd()) - 1);
         } catch (NumberFormatException e) {
             String errorDetail = "The task number provided is not an integer!";
             String errorFix = "Fix: Try \"" + command + " <integer>\" instead!";
@@ -188,34 +425,34 @@ public class Parser {
     /**
      * Parses a "delete" command into a {@link DeleteCommand}.
      *
-     * @param components the user input split into command and index.
+     * @param lexer the scanned user input.
      * @return a new {@link DeleteCommand}.
-     * @throws MomoException if the index is missing or invalid.
+     * @throws MomoException if the task reference is missing or invalid.
      */
-    private static Command parseDelete(String[] components) throws MomoException {
-        return new DeleteCommand(parseTaskIndex(components, "delete"));
+    private static Command parseDelete(CommandLexer lexer) throws MomoException {
+        return new DeleteCommand(parseTaskReference(lexer, "delete"));
     }
 
     /**
      * Parses a "mark" command into a {@link MarkCommand}.
      *
-     * @param components the user input split into command and index.
+     * @param lexer the scanned user input.
      * @return a new {@link MarkCommand}.
-     * @throws MomoException if the index is missing or invalid.
+     * @throws MomoException if the task reference is missing or invalid.
      */
-    private static Command parseMark(String[] components) throws MomoException {
-        return new MarkCommand(parseTaskIndex(components, "mark"));
+    private static Command parseMark(CommandLexer lexer) throws MomoException {
+        return new MarkCommand(parseTaskReference(lexer, "mark"));
     }
 
     /**
      * Parses an "unmark" command into an {@link UnmarkCommand}.
      *
-     * @param components the user input split into command and index.
+     * @param lexer the scanned user input.
      * @return a new {@link UnmarkCommand}.
-     * @throws MomoException if the index is missing or invalid.
+     * @throws MomoException if the task reference is missing or invalid.
      */
-    private static Command parseUnmark(String[] components) throws MomoException {
-        return new UnmarkCommand(parseTaskIndex(components, "unmark"));
+    private static Command parseUnmark(CommandLexer lexer) throws MomoException {
+        return new UnmarkCommand(parseTaskReference(lexer, "unmark"));
     }
 
     /**
@@ -233,6 +470,8 @@ public class Parser {
 
     /**
      * Converts a trimmed user input string into the corresponding {@link Command}.
+     * The input is scanned once by a {@link CommandLexer}; only the parts passed to the
+     * command are copied out of it.
      * Throws {@link MomoException} for invalid input or format errors.
      *
      * @param trimmedInput the trimmed user input string.
@@ -240,8 +479,29 @@ public class Parser {
      * @throws MomoException if the input is invalid, incomplete, or formatted incorrectly.
      */
     public static Command parseToCommand(String trimmedInput) throws MomoException {
-        String[] components = trimmedInput.split(" ", 2);
-        String command = components[0];
+        if (!FlightRecording.isEnabled()) {
+            return parseCommand(trimmedInput);
+        }
+        ParseEvent event = new ParseEvent();
+        try {
+            Command command = parseCommand(trimmedInput);
+            event.setCommandClass(command.getClass());
+            return command;
+        } finally {
+            if (event.shouldCommit()) {
+                event.setInputLength(trimmedInput.length());
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Converts a trimmed user input string into the corresponding {@link Command},
+     * without recording a {@link ParseEvent}.
+     */
+    private static Command parseCommand(String trimmedInput) throws MomoException {
+        CommandLexer lexer = new CommandLexer(trimmedInput);
+        String command = lexer.matchCommand(COMMAND_WORDS);
 
         switch (command) {
         case "help":
@@ -249,28 +509,62 @@ public class Parser {
         case "bye":
             return parseBye();
         case "list":
-            return parseList();
+            return parseList(lexer);
+        case "export":
+            return parseExport();
         case "todo":
-            return parseTodo(components);
+            return parseTodo(lexer);
         case "find":
-            return parseFind(components);
+            return parseFind(lexer);
         case "deadline":
-            return parseDeadline(components);
+            return parseDeadline(lexer);
         case "event":
-            return parseEvent(components);
+            return parseEvent(lexer);
         case "delete":
-            return parseDelete(components);
+            return parseDelete(lexer);
         case "mark":
-            return parseMark(components);
+            return parseMark(lexer);
         case "unmark":
-            return parseUnmark(components);
+            return parseUnmark(lexer);
+        case "due":
+            return parseDue(lexer);
+        case "agenda":
+            return parseAgenda(lexer);
+        case "free":
+            return parseFree(lexer);
+        case "stats":
+            return parseStats();
+        case "run":
+            return parseRun(lexer);
+        case "metrics":
+            return parseMetrics();
         default:
             return parseInvalid(trimmedInput);
         }
     }
 
+    /**
+     * Parses the identifier stored in front of a saved task string.
+     *
+     * @param component the identifier preceded by {@code #}.
+     * @return the identifier.
+     * @throws MomoException if the identifier is not a positive integer.
+     */
+    private static long parseId(String component) throws MomoException {
+        try {
+            long id = Long.parseLong(component.substring(ID_PREFIX.length()));
+            if (id <= 0) {
+                throw new MomoException("Invalid task id found!");
+            }
+            return id;
+        } catch (NumberFormatException e) {
+            throw new MomoException("Invalid task id found!");
+        }
+    }
+
     /**
      * Converts a saved task string into a {@link Task} object.
+     * The string may start with the identifier of the task, as in {@code "#12 | T | 0 | read book"}.
      *
      * @param line the saved task string in the format used by storage.
      * @return the {@link Task} object represented by the line.
@@ -279,23 +573,32 @@ public class Parser {
     public static Task parseToTask(String line) throws MomoException {
         try {
             String[] components = line.split(" \\| ");
-            String taskType = components[0];
-            boolean isDone = components[1].equals("1");
-            String description = components[2];
+            int first = components[0].startsWith(ID_PREFIX) ? 1 : 0;
+            String taskType = components[first];
+            boolean isDone = components[first + 1].equals("1");
+            String description = components[first + 2];
 
+            Task task;
             switch (taskType) {
             case "T":
-                return new Todo(description, isDone);
+                task = new Todo(description, isDone);
+                break;
             case "D":
-                String by = components[3];
-                return new Deadline(description, parseToLocalDateTime(by), isDone);
+                String by = components[first + 3];
+                task = new Deadline(description, DateTimeCodec.parse(by), isDone);
+                break;
             case "E":
-                String from = components[3];
-                String to = components[4];
-                return new Event(description, parseToLocalDateTime(from), parseToLocalDateTime(to), isDone);
+                String from = components[first + 3];
+                String to = components[first + 4];
+                task = new Event(description, DateTimeCodec.parse(from), DateTimeCodec.parse(to), isDone);
+                break;
             default:
                 throw new MomoException("Invalid task type found!");
             }
+            if (first == 1) {
+                task.setId(parseId(components[0]));
+            }
+            return task;
         } catch (ArrayIndexOutOfBoundsException e) {
             throw new MomoException("Missing data from tasks!");
         } catch (DateTimeParseException e) {
@@ -0,0 +1,194 @@
+package momo.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import momo.exception.MomoException;
+import momo.task.DateTimeCodec;
+import momo.task.Deadline;
+import momo.task.Event;
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Encodes and decodes the binary snapshot format.
+ *
+ * <p>A snapshot starts with a fixed-width header, followed by a table holding the
+ * offset of every task record, followed by the task records themselves:</p>
+ * <pre>
+ * header:  int magic ("MOMO") | short version | short header size | int task count
+ *          | long next task id | 12 reserved bytes
+ * table:   int offset of task 0 | int offset of task 1 | ...
+ * task:    byte type ('T', 'D' or 'E') | byte flags (bit 0 set if done) | long task id
+ *          | [long epoch minute of 'by' or 'from', 'D' and 'E' only] | [long epoch minute of 'to', 'E' only]
+ *          | int description length | UTF-8 description bytes
+ * </pre>
+ *
+ * <p>Snapshots are read through a {@link MappedByteBuffer}, so loading involves no
+ * per-line parsing, and descriptions are only decoded when first used.</p>
+ */
+class BinarySnapshot {
+    static final int MAGIC = 0x4D4F4D4F;
+    private static final short VERSION = 2;
+    private static final int COUNT_OFFSET = 8;
+    private static final int NEXT_ID_OFFSET = 12;
+    private static final short HEADER_SIZE = 32;
+    private static final byte DONE_FLAG = 1;
+
+    /**
+     * Returns whether the file starts with the binary snapshot header.
+     *
+     * @param filePath the file to check.
+     * @return {@code true} if the file is a binary snapshot.
+     * @throws IOException if the file cannot be read.
+     */
+    static boolean isBinary(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] magic = in.readNBytes(Integer.BYTES);
+            return magic.length == Integer.BYTES && ByteBuffer.wrap(magic).getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Returns the number of tasks in a binary snapshot, reading only its header.
+     *
+     * @param filePath the file to check.
+     * @return the task count, or 0 if the file is not a binary snapshot.
+     * @throws IOException if the file cannot be read.
+     */
+    static int readTaskCount(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(COUNT_OFFSET + Integer.BYTES);
+            if (header.length < COUNT_OFFSET + Integer.BYTES || ByteBuffer.wrap(header).getInt() != MAGIC) {
+                return 0;
+            }
+            return Math.max(0, ByteBuffer.wrap(header).getInt(COUNT_OFFSET));
+        }
+    }
+
+    /**
+     * Encodes the task list into a binary snapshot.
+     *
+     * @param tasks the task list to encode.
+     * @return the encoded snapshot.
+     */
+    static byte[] encode(TaskList tasks) {
+        Task[] taskArray = tasks.stream().toArray(Task[]::new);
+        byte[][] descriptions = new byte[taskArray.length][];
+        int[] offsets = new int[taskArray.length];
+        int size = HEADER_SIZE + taskArray.length * Integer.BYTES;
+        for (int i = 0; i < taskArray.length; i++) {
+            descriptions[i] = taskArray[i].getDescription().getBytes(StandardCharsets.UTF_8);
+            offsets[i] = size;
+            size += recordSize(taskArray[i], descriptions[i].length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort(HEADER_SIZE).putInt(taskArray.length)
+                .putLong(tasks.getNextId());
+        buffer.position(HEADER_SIZE);
+        for (int offset : offsets) {
+            buffer.putInt(offset);
+        }
+        for (int i = 0; i < taskArray.length; i++) {
+            putTask(buffer, taskArray[i], descriptions[i]);
+        }
+        return buffer.array();
+    }
+
+    private static int recordSize(Task task, int descriptionLength) {
+        int timeCount = task instanceof Event ? 2 : task instanceof Deadline ? 1 : 0;
+        return 2 + Long.BYTES + timeCount * Long.BYTES + Integer.BYTES + descriptionLength;
+    }
+
+    private static void putTask(ByteBuffer buffer, Task task, byte[] description) {
+        byte flags = task.isDone() ? DONE_FLAG : 0;
+        if (task instanceof Deadline) {
+            buffer.put((byte) 'D').put(flags).putLong(task.getId())
+                    .putLong(DateTimeCodec.toEpochMinute(((Deadline) task).getBy()));
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            buffer.put((byte) 'E').put(flags).putLong(task.getId())
+                    .putLong(DateTimeCodec.toEpochMinute(event.getFrom()))
+                    .putLong(DateTimeCodec.toEpochMinute(event.getTo()));
+        } else {
+            buffer.put((byte) 'T').put(flags).putLong(task.getId());
+        }
+        buffer.putInt(description.length).put(description);
+    }
+
+    /**
+     * Reads a binary snapshot into the task list.
+     *
+     * @param filePath the snapshot file.
+     * @param tasks the task list to load the tasks into.
+     * @throws IOException if the file cannot be read.
+     * @throws MomoException if the snapshot is malformed.
+     */
+    static void read(Path filePath, TaskList tasks) throws IOException, MomoException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION) {
+                throw new MomoException("Unsupported snapshot format!");
+            }
+            int headerSize = buffer.getShort(6);
+            int count = buffer.getInt(COUNT_OFFSET);
+            for (int i = 0; i < count; i++) {
+                tasks.addTask(getTask(buffer, buffer.getInt(headerSize + i * Integer.BYTES)));
+            }
+            tasks.reserveIdsBefore(buffer.getLong(NEXT_ID_OFFSET));
+        } catch (IndexOutOfBoundsException e) {
+            throw new MomoException("Missing data from snapshot!");
+        }
+    }
+
+    private static Task getTask(ByteBuffer buffer, int offset) throws MomoException {
+        byte type = buffer.get(offset);
+        boolean isDone = (buffer.get(offset + 1) & DONE_FLAG) != 0;
+        long id = buffer.getLong(offset + 2);
+        if (id <= 0) {
+            throw new MomoException("Invalid task id in snapshot!");
+        }
+        int position = offset + 2 + Long.BYTES;
+
+        Task task;
+        switch (type) {
+        case 'T':
+            task = new Todo(getDescription(buffer, position), isDone);
+            break;
+        case 'D':
+            LocalDateTime by = DateTimeCodec.fromEpochMinute(buffer.getLong(position));
+            task = new Deadline(getDescription(buffer, position + Long.BYTES), by, isDone);
+            break;
+        case 'E':
+            LocalDateTime from = DateTimeCodec.fromEpochMinute(buffer.getLong(position));
+            LocalDateTime to = DateTimeCodec.fromEpochMinute(buffer.getLong(position + Long.BYTES));
+            task = new Event(getDescription(buffer, position + 2 * Long.BYTES), from, to, isDone);
+            break;
+        default:
+            throw new MomoException("Invalid task type found!");
+        }
+        task.setId(id);
+        return task;
+    }
+
+    /**
+     * Returns a view of the encoded description stored at the given position.
+     */
+    private static ByteBuffer getDescription(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position);
+        return buffer.slice(position + Integer.BYTES, length);
+    }
+}
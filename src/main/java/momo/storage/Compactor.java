@@ -0,0 +1,143 @@
+package momo.storage;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import momo.exception.MomoException;
+import momo.task.TaskList;
+
+/**
+ * Folds sealed journal segments into a fresh snapshot on a background thread.
+ *
+ * <p>Requests only update an atomic counter and, at most once per run, hand a task
+ * to the background thread, so the command path never waits on a lock or on disk.
+ * All snapshot writes happen on the background thread, one at a time.</p>
+ */
+class Compactor {
+    private final Snapshots snapshots;
+    private final Journal journal;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "momo-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger requestedSegment = new AtomicInteger();
+    private final AtomicBoolean isScheduled = new AtomicBoolean();
+
+    /** Last journal segment included in the latest snapshot. Only used on the background thread. */
+    private int snapshotSegment;
+
+    /**
+     * Creates a new {@code Compactor}.
+     *
+     * @param snapshots the snapshot files to fold into.
+     * @param journal the journal whose sealed segments are folded.
+     */
+    Compactor(Snapshots snapshots, Journal journal) {
+        this.snapshots = snapshots;
+        this.journal = journal;
+    }
+
+    /**
+     * Sets the last journal segment included in the latest snapshot on disk.
+     *
+     * @param snapshotSegment the segment number covered by the latest snapshot.
+     */
+    void setSnapshotSegment(int snapshotSegment) {
+        executor.execute(() -> this.snapshotSegment = snapshotSegment);
+    }
+
+    /**
+     * Requests that every segment up to the given one be folded into a new snapshot.
+     * Returns immediately; requests made while a compaction is running are merged
+     * into the next run.
+     *
+     * @param sealedSegment the last sealed journal segment.
+     */
+    void requestCompaction(int sealedSegment) {
+        requestedSegment.accumulateAndGet(sealedSegment, Math::max);
+        if (isScheduled.compareAndSet(false, true)) {
+            executor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Writes the given snapshot on the background thread and waits for it to finish.
+     *
+     * @param content the encoded snapshot.
+     * @param sealedSegment the last journal segment included in the snapshot.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    void writeSnapshot(byte[] content, int sealedSegment) throws IOException {
+        await(executor.submit(() -> {
+            commit(content, sealedSegment);
+            return null;
+        }));
+    }
+
+    /**
+     * Waits until every compaction requested so far has finished.
+     */
+    void awaitIdle() {
+        try {
+            await(executor.submit(() -> null));
+        } catch (IOException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    /**
+     * Folds the latest snapshot and the requested sealed segments into a new snapshot.
+     * A failed compaction leaves the existing files untouched and is retried on the
+     * next request.
+     */
+    private void compact() {
+        isScheduled.set(false);
+        int target = requestedSegment.get();
+        if (target <= snapshotSegment) {
+            return;
+        }
+        try {
+            TaskList tasks = new TaskList();
+            snapshots.read(snapshotSegment, tasks);
+            for (int segment : journal.listSegments()) {
+                if (segment > snapshotSegment && segment <= target) {
+                    journal.replay(segment, tasks);
+                }
+            }
+            commit(Snapshots.encode(tasks), target);
+        } catch (IOException | MomoException e) {
+            System.out.println("Error compacting tasks in hard disk: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Atomically replaces the latest snapshot and removes the segments it covers.
+     */
+    private void commit(byte[] content, int sealedSegment) throws IOException {
+        if (sealedSegment <= snapshotSegment) {
+            return;
+        }
+        snapshots.write(sealedSegment, content);
+        snapshotSegment = sealedSegment;
+        journal.deleteUpTo(sealedSegment);
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
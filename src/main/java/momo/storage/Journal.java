@@ -0,0 +1,366 @@
+package momo.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import momo.exception.MomoException;
+import momo.metrics.FlightRecording;
+import momo.metrics.Metrics;
+import momo.metrics.PersistEvent;
+import momo.parser.Parser;
+import momo.task.Task;
+import momo.task.TaskList;
+
+/**
+ * Represents an append-only log of changes made to the task list.
+ *
+ * <p>Each change is stored as a single line, so the cost of recording a change
+ * depends only on the size of that change and not on the size of the task list.
+ * The supported records are:</p>
+ * <ul>
+ *     <li>{@code ADD | <task in save format>}</li>
+ *     <li>{@code MARK | #<id>}</li>
+ *     <li>{@code UNMARK | #<id>}</li>
+ *     <li>{@code DELETE | #<id>}</li>
+ * </ul>
+ *
+ * <p>Tasks are referred to by their stable identifier.</p>
+ *
+ * <p>The journal is split into numbered segment files ({@code momo.journal.<n>}).
+ * Once a segment grows past the record or size threshold it is sealed and never
+ * written again, so it can be folded into a snapshot in the background.</p>
+ *
+ * <p>Each append first cuts the segment back to the bytes of the appends that succeeded,
+ * so an append that failed part way through never leaves a torn record in front of the
+ * records written after it.</p>
+ *
+ * <p>Apart from {@link #open(int)} during loading, a journal is only appended to
+ * and rotated from the {@link JournalWriter} thread.</p>
+ */
+class Journal {
+    static final String PREFIX = "momo.journal.";
+    static final String QUARANTINE_PREFIX = "momo.quarantine.journal.";
+    private static final String SEPARATOR = " | ";
+    private static final String ADD = "ADD";
+    private static final String MARK = "MARK";
+    private static final String UNMARK = "UNMARK";
+    private static final String DELETE = "DELETE";
+    private static final String ID_PREFIX = "#";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directoryPath;
+    private final int recordThreshold;
+    private final long byteThreshold;
+    private int segment = 1;
+    private int recordCount;
+    private long byteCount;
+
+    /**
+     * Creates a new {@code Journal} that keeps its segments in the given directory.
+     *
+     * @param directoryPath the directory to store the segments in.
+     * @param recordThreshold the number of records after which a segment is sealed.
+     * @param byteThreshold the size in bytes after which a segment is sealed.
+     */
+    Journal(Path directoryPath, int recordThreshold, long byteThreshold) {
+        this.directoryPath = directoryPath;
+        this.recordThreshold = recordThreshold;
+        this.byteThreshold = byteThreshold;
+    }
+
+    /**
+     * Returns the record describing the addition of the given task.
+     *
+     * @param task the task that was added.
+     * @return the journal record.
+     */
+    static String toAddRecord(Task task) {
+        return ADD + SEPARATOR + task.convertToSaveFormat();
+    }
+
+    /**
+     * Returns the record describing a task being marked as done.
+     *
+     * @param id the identifier of the task that was marked.
+     * @return the journal record.
+     */
+    static String toMarkRecord(long id) {
+        return MARK + SEPARATOR + ID_PREFIX + id;
+    }
+
+    /**
+     * Returns the record describing a task being marked as not done.
+     *
+     * @param id the identifier of the task that was unmarked.
+     * @return the journal record.
+     */
+    static String toUnmarkRecord(long id) {
+        return UNMARK + SEPARATOR + ID_PREFIX + id;
+    }
+
+    /**
+     * Returns the record describing the deletion of a task.
+     *
+     * @param id the identifier of the task that was deleted.
+     * @return the journal record.
+     */
+    static String toDeleteRecord(long id) {
+        return DELETE + SEPARATOR + ID_PREFIX + id;
+    }
+
+    /**
+     * Starts appending to the given segment.
+     * Segments before it are treated as sealed.
+     *
+     * @param segment the segment number to append to.
+     */
+    void open(int segment) {
+        this.segment = segment;
+        this.recordCount = 0;
+        this.byteCount = 0;
+    }
+
+    /**
+     * Returns the number of the segment currently being appended to.
+     *
+     * @return the current segment number.
+     */
+    int getSegment() {
+        return segment;
+    }
+
+    /**
+     * Appends the records, in order, to the end of the current segment in a single write.
+     * Anything after the records appended successfully before, such as the torn end of a
+     * failed append, is removed first.
+     *
+     * @param records the records to append.
+     * @return {@code true} if the segment has reached a threshold and should be sealed.
+     * @throws IOException if the journal cannot be written.
+     */
+    boolean append(List<String> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (String record : records) {
+            lines.append(record).append(System.lineSeparator());
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        PersistEvent event = FlightRecording.isEnabled() ? new PersistEvent() : null;
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(resolve(segment), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            if (channel.size() > byteCount) {
+                channel.truncate(byteCount);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long position = byteCount;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+        Metrics.getGlobal().recordWrite("Journal", System.nanoTime() - start, bytes.length);
+        if (event != null && event.shouldCommit()) {
+            event.setKind("Journal");
+            event.setBytesWritten(bytes.length);
+            event.setRecordCount(records.size());
+            event.commit();
+        }
+        recordCount += records.size();
+        byteCount += bytes.length;
+        return recordCount >= recordThreshold || byteCount >= byteThreshold;
+    }
+
+    /**
+     * Seals the current segment and starts appending to the next one.
+     *
+     * @return the number of the segment that was sealed.
+     */
+    int rotate() {
+        int sealed = segment;
+        open(segment + 1);
+        return sealed;
+    }
+
+    /**
+     * Returns the numbers of all segments on disk, in ascending order.
+     *
+     * @return the sorted segment numbers.
+     * @throws IOException if the directory cannot be read.
+     */
+    List<Integer> listSegments() throws IOException {
+        return Snapshots.listSequences(directoryPath, PREFIX);
+    }
+
+    /**
+     * The outcome of replaying a segment.
+     */
+    static final class Replay {
+        private final int appliedCount;
+        private final boolean isTruncated;
+
+        private Replay(int appliedCount, boolean isTruncated) {
+            this.appliedCount = appliedCount;
+            this.isTruncated = isTruncated;
+        }
+
+        /**
+         * Returns the number of records applied.
+         *
+         * @return the number of records applied.
+         */
+        int getAppliedCount() {
+            return appliedCount;
+        }
+
+        /**
+         * Returns whether replaying stopped at a record that could not be applied.
+         *
+         * @return {@code true} if the records from that one onwards were not applied.
+         */
+        boolean isTruncated() {
+            return isTruncated;
+        }
+    }
+
+    /**
+     * Applies every record in the given segment, in order, to the task list.
+     *
+     * <p>Replaying stops at the first record that cannot be applied, and the result
+     * reports the segment as truncated. Every change before that record is kept.</p>
+     *
+     * @param segment the segment number to replay.
+     * @param tasks the task list to apply the records to.
+     * @return how many records were applied, and whether the segment was truncated.
+     * @throws IOException if the segment cannot be read.
+     */
+    Replay replay(int segment, TaskList tasks) throws IOException {
+        Path filePath = resolve(segment);
+        if (!Files.exists(filePath)) {
+            return new Replay(0, false);
+        }
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    apply(line, tasks);
+                    count++;
+                } catch (MomoException e) {
+                    return new Replay(count, true);
+                }
+            }
+        }
+        return new Replay(count, false);
+    }
+
+    /**
+     * Sets the given segment aside to {@code momo.quarantine.journal.<n>}, and keeps only
+     * its first records in the segment itself, so the rest is neither replayed nor
+     * compacted again.
+     *
+     * @param segment the segment number to set aside.
+     * @param keptCount the number of records at the start of the segment to keep.
+     * @return the path the whole segment was copied to.
+     * @throws IOException if the segment cannot be copied or rewritten.
+     */
+    Path quarantine(int segment, int keptCount) throws IOException {
+        Path filePath = resolve(segment);
+        Path quarantinePath = directoryPath.resolve(QUARANTINE_PREFIX + segment);
+        Files.copy(filePath, quarantinePath, StandardCopyOption.REPLACE_EXISTING);
+        if (keptCount == 0) {
+            Files.delete(filePath);
+            return quarantinePath;
+        }
+        List<String> kept;
+        try (Stream<String> lines = Files.lines(filePath)) {
+            kept = lines.limit(keptCount).collect(Collectors.toList());
+        }
+        Path tempPath = directoryPath.resolve(PREFIX + segment + TEMP_SUFFIX);
+        Files.write(tempPath, kept);
+        Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return quarantinePath;
+    }
+
+    /**
+     * Deletes every segment up to and including the given one.
+     *
+     * @param segment the last segment to delete.
+     * @throws IOException if a segment cannot be deleted.
+     */
+    void deleteUpTo(int segment) throws IOException {
+        for (int sealed : listSegments()) {
+            if (sealed <= segment) {
+                Files.deleteIfExists(resolve(sealed));
+            }
+        }
+    }
+
+    /**
+     * Applies a single record to the given task list.
+     *
+     * @param record the record to apply.
+     * @param tasks the task list to apply the record to.
+     * @throws MomoException if the record is malformed or refers to a missing task.
+     */
+    static void apply(String record, TaskList tasks) throws MomoException {
+        String[] components = record.split(" \\| ", 2);
+        if (components.length < 2) {
+            throw new MomoException("Missing data from journal!");
+        }
+        String type = components[0];
+        String data = components[1];
+
+        switch (type) {
+        case ADD:
+            tasks.addTask(Parser.parseToTask(data));
+            break;
+        case MARK:
+            tasks.markTask(parseIndex(data, tasks));
+            break;
+        case UNMARK:
+            tasks.unmarkTask(parseIndex(data, tasks));
+            break;
+        case DELETE:
+            tasks.deleteTask(parseIndex(data, tasks));
+            break;
+        default:
+            throw new MomoException("Invalid journal record found!");
+        }
+    }
+
+    private Path resolve(int segment) {
+        return directoryPath.resolve(PREFIX + segment);
+    }
+
+    /**
+     * Parses the task reference stored in a record into the current index of the task.
+     *
+     * @param data the identifier as stored in the record, {@code #<id>}.
+     * @param tasks the task list the reference refers to.
+     * @return the zero-based task index.
+     * @throws MomoException if the reference is not an identifier or refers to a missing task.
+     */
+    private static int parseIndex(String data, TaskList tasks) throws MomoException {
+        if (!data.startsWith(ID_PREFIX)) {
+            throw new MomoException("Invalid task reference in journal!");
+        }
+        try {
+            int index = tasks.indexOf(Long.parseLong(data.substring(ID_PREFIX.length())));
+            if (index < 0 || index >= tasks.size()) {
+                throw new MomoException("Journal refers to a missing task!");
+            }
+            return index;
+        } catch (NumberFormatException e) {
+            throw new MomoException("Invalid task number in journal!");
+        }
+    }
+}
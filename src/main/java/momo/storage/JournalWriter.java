@@ -0,0 +1,244 @@
+package momo.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Writes journal records on a dedicated background thread.
+ *
+ * <p>Callers only place records on a bounded queue. The writer thread takes every
+ * record that has queued up since its last write and appends them to the journal
+ * in a single write, so a burst of commands costs one trip to the disk. When the
+ * queue is full, callers block until the writer catches up.</p>
+ *
+ * <p>Records that fail to be written are kept, and are written again before any newer
+ * record, so a failed write never leaves a gap in the journal. They are retried after a
+ * pause even if nothing new is queued. At most a queue's worth of them is kept: beyond
+ * that the writer stops taking from the queue, so callers block just as they do when the
+ * disk is slow. Until they are written, {@link #flush()} and {@link #seal()} throw an
+ * {@link IOException} rather than wait. Callers never wait on a writer thread that has
+ * stopped: they fail instead.</p>
+ */
+class JournalWriter {
+    private static final long LIVENESS_CHECK_MILLIS = 500;
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final Path directoryPath;
+    private final Journal journal;
+    private final Compactor compactor;
+    private final BlockingQueue<Object> queue;
+    private final int capacity;
+    private final Thread thread;
+    private volatile Exception failure;
+
+    /**
+     * Represents a point in the queue that a caller waits for.
+     * Every record queued before it has been written once it completes.
+     */
+    private static class Barrier {
+        private final boolean isSealing;
+        private final CompletableFuture<Integer> segment = new CompletableFuture<>();
+
+        private Barrier(boolean isSealing) {
+            this.isSealing = isSealing;
+        }
+    }
+
+    /**
+     * Creates a new {@code JournalWriter} and starts its background thread.
+     *
+     * @param directoryPath the directory that holds the journal.
+     * @param journal the journal to append records to.
+     * @param compactor the compactor notified whenever a segment is sealed.
+     * @param capacity the maximum number of records waiting to be written.
+     */
+    JournalWriter(Path directoryPath, Journal journal, Compactor compactor, int capacity) {
+        this.directoryPath = directoryPath;
+        this.journal = journal;
+        this.compactor = compactor;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+
+        thread = new Thread(this::run, "momo-journal-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues a record to be appended to the journal.
+     * Blocks while the queue is full.
+     *
+     * @param record the record to append.
+     * @throws IllegalStateException if the writer thread has stopped.
+     */
+    void submit(String record) {
+        put(record);
+    }
+
+    /**
+     * Waits until every record queued so far has been written to the journal.
+     *
+     * @throws IOException if some records could not be written.
+     */
+    void flush() throws IOException {
+        await(new Barrier(false));
+    }
+
+    /**
+     * Waits until every record queued so far has been written, then seals the
+     * current segment.
+     *
+     * @return the number of the segment that was sealed.
+     * @throws IOException if some records could not be written, in which case
+     *         the segment is not sealed.
+     */
+    int seal() throws IOException {
+        return await(new Barrier(true));
+    }
+
+    private int await(Barrier barrier) throws IOException {
+        try {
+            while (!queue.offer(barrier, LIVENESS_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                checkAlive();
+                checkFailure();
+            }
+            while (true) {
+                try {
+                    return barrier.segment.get(LIVENESS_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    checkAlive();
+                    checkFailure();
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving tasks", e);
+        }
+    }
+
+    private void put(Object entry) {
+        try {
+            while (!queue.offer(entry, LIVENESS_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                checkAlive();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while saving tasks", e);
+        }
+    }
+
+    /**
+     * Throws if the last write failed, since the records before the barrier are not written yet.
+     */
+    private void checkFailure() throws IOException {
+        Exception pending = failure;
+        if (pending != null) {
+            throw new IOException("Changes could not be saved: " + pending.getMessage(), pending);
+        }
+    }
+
+    /**
+     * Throws if the writer thread has stopped, since nothing would ever take from the queue.
+     */
+    private void checkAlive() {
+        if (!thread.isAlive()) {
+            throw new IllegalStateException("The journal writer has stopped");
+        }
+    }
+
+    /**
+     * Repeatedly takes everything in the queue and writes it out. While records are left
+     * from a failed write, they are retried after a pause, and no more than a queue's worth
+     * of records is taken.
+     */
+    private void run() {
+        List<Object> entries = new ArrayList<>();
+        List<String> records = new ArrayList<>();
+        while (true) {
+            try {
+                if (records.isEmpty()) {
+                    entries.add(queue.take());
+                } else if (records.size() >= capacity) {
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                } else {
+                    Object entry = queue.poll(RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                    if (entry != null) {
+                        entries.add(entry);
+                    }
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (!entries.isEmpty()) {
+                queue.drainTo(entries, Math.max(0, capacity - records.size() - entries.size()));
+            }
+            for (Object entry : entries) {
+                if (entry instanceof String) {
+                    records.add((String) entry);
+                } else {
+                    write(records);
+                    complete((Barrier) entry, records);
+                }
+            }
+            write(records);
+            entries.clear();
+        }
+    }
+
+    /**
+     * Completes the barrier, unless records queued before it are still unwritten,
+     * in which case the barrier fails with the reason they could not be written.
+     */
+    private void complete(Barrier barrier, List<String> records) {
+        if (!records.isEmpty()) {
+            barrier.segment.completeExceptionally(new IOException(
+                    records.size() + " changes could not be saved: " + failure.getMessage(), failure));
+            return;
+        }
+        try {
+            barrier.segment.complete(barrier.isSealing ? journal.rotate() : journal.getSegment());
+        } catch (RuntimeException e) {
+            barrier.segment.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Appends the records to the journal in one write and clears the list,
+     * sealing the segment and requesting a compaction if it reached a threshold.
+     * If the write fails, the records are left in the list to be written again.
+     */
+    private void write(List<String> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        boolean isFull;
+        try {
+            Files.createDirectories(directoryPath);
+            isFull = journal.append(records);
+        } catch (IOException | RuntimeException e) {
+            failure = e;
+            System.out.println("Error saving tasks in hard disk: " + e.getMessage());
+            return;
+        }
+        records.clear();
+        failure = null;
+        if (isFull) {
+            try {
+                compactor.requestCompaction(journal.rotate());
+            } catch (RuntimeException e) {
+                System.out.println("Error compacting tasks in hard disk: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package momo.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import momo.exception.MomoException;
+import momo.metrics.FlightRecording;
+import momo.metrics.Metrics;
+import momo.metrics.PersistEvent;
+import momo.task.TaskList;
+
+/**
+ * Manages the snapshot files that hold the full task list.
+ *
+ * <p>Snapshot {@code momo.snapshot.<n>} contains every change recorded in journal
+ * segments up to and including segment {@code n}. Because the segment number is
+ * part of the file name, a snapshot and the segments it replaces are switched over
+ * by a single atomic rename. Snapshots are stored in the {@link BinarySnapshot} format.
+ * When no snapshot exists, tasks are imported from the text file {@code momo.txt},
+ * which is treated as snapshot 0.</p>
+ */
+class Snapshots {
+    static final String PREFIX = "momo.snapshot.";
+    static final String TEXT_FILE_NAME = "momo.txt";
+    static final String QUARANTINE_FILE_NAME = "momo.quarantine.txt";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directoryPath;
+
+    /**
+     * Creates a new {@code Snapshots} that keeps its files in the given directory.
+     *
+     * @param directoryPath the directory to store the snapshots in.
+     */
+    Snapshots(Path directoryPath) {
+        this.directoryPath = directoryPath;
+    }
+
+    /**
+     * Returns the numbers of all files in the directory named {@code <prefix><number>},
+     * in ascending order.
+     *
+     * @param directoryPath the directory to search.
+     * @param prefix the file name prefix.
+     * @return the sorted file numbers.
+     * @throws IOException if the directory cannot be read.
+     */
+    static List<Integer> listSequences(Path directoryPath, String prefix) throws IOException {
+        List<Integer> sequences = new ArrayList<>();
+        if (!Files.isDirectory(directoryPath)) {
+            return sequences;
+        }
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix))
+                    .map(name -> name.substring(prefix.length()))
+                    .filter(number -> !number.isEmpty() && number.chars().allMatch(Character::isDigit))
+                    .forEach(number -> sequences.add(Integer.parseInt(number)));
+        }
+        sequences.sort(null);
+        return sequences;
+    }
+
+    /**
+     * Returns the journal segment number covered by the latest snapshot.
+     *
+     * @return the latest snapshot number, or 0 if there is no snapshot.
+     * @throws IOException if the directory cannot be read.
+     */
+    int latest() throws IOException {
+        List<Integer> sequences = listSequences(directoryPath, PREFIX);
+        return sequences.isEmpty() ? 0 : sequences.get(sequences.size() - 1);
+    }
+
+    /**
+     * Returns the number of tasks in the given snapshot, without reading the tasks.
+     *
+     * @param sequence the snapshot number, or 0 for the legacy file.
+     * @return the task count, or 0 if the snapshot does not exist or is not binary.
+     * @throws IOException if the snapshot cannot be read.
+     */
+    int countTasks(int sequence) throws IOException {
+        Path filePath = resolve(sequence);
+        if (sequence == 0 || !Files.exists(filePath)) {
+            return 0;
+        }
+        return BinarySnapshot.readTaskCount(filePath);
+    }
+
+    /**
+     * Reads the given snapshot into the task list.
+     * Malformed lines in a text snapshot are skipped and reported instead of failing the read.
+     *
+     * @param sequence the snapshot number, or 0 for the legacy file.
+     * @param tasks the task list to load the tasks into.
+     * @return a description of every line that was skipped.
+     * @throws IOException if the snapshot cannot be read.
+     * @throws MomoException if the binary snapshot is malformed.
+     */
+    List<String> read(int sequence, TaskList tasks) throws IOException, MomoException {
+        Path filePath = sequence == 0 ? directoryPath.resolve(TEXT_FILE_NAME) : resolve(sequence);
+        if (!Files.exists(filePath)) {
+            return List.of();
+        }
+        if (BinarySnapshot.isBinary(filePath)) {
+            BinarySnapshot.read(filePath, tasks);
+            return List.of();
+        }
+        return readText(filePath, tasks);
+    }
+
+    /**
+     * Reads a file in the text save format into the task list.
+     *
+     * @param filePath the text file.
+     * @param tasks the task list to load the tasks into.
+     * @return a description of every malformed line that was skipped.
+     * @throws IOException if the file cannot be read.
+     */
+    static List<String> readText(Path filePath, TaskList tasks) throws IOException {
+        return new TextTaskLoader().load(filePath, tasks);
+    }
+
+    /**
+     * Writes the lines that could not be loaded to the quarantine file.
+     *
+     * @param quarantined the descriptions of the skipped lines.
+     * @return the path of the quarantine file.
+     * @throws IOException if the file cannot be written.
+     */
+    Path writeQuarantine(List<String> quarantined) throws IOException {
+        Files.createDirectories(directoryPath);
+        Path filePath = directoryPath.resolve(QUARANTINE_FILE_NAME);
+        Files.write(filePath, quarantined);
+        return filePath;
+    }
+
+    /**
+     * Writes the task list to a file in the text save format.
+     *
+     * @param filePath the text file.
+     * @param tasks the task list to write.
+     * @throws IOException if the file cannot be written.
+     */
+    static void writeText(Path filePath, TaskList tasks) throws IOException {
+        Files.createDirectories(filePath.toAbsolutePath().getParent());
+        Files.writeString(filePath, tasks.convertToSaveFormat());
+    }
+
+    /**
+     * Encodes the task list into the snapshot file format.
+     *
+     * @param tasks the task list to encode.
+     * @return the encoded snapshot.
+     */
+    static byte[] encode(TaskList tasks) {
+        return BinarySnapshot.encode(tasks);
+    }
+
+    /**
+     * Atomically writes a snapshot, then deletes the snapshots it replaces.
+     *
+     * @param sequence the last journal segment included in the snapshot.
+     * @param content the encoded snapshot.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    void write(int sequence, byte[] content) throws IOException {
+        PersistEvent event = FlightRecording.isEnabled() ? new PersistEvent() : null;
+        long start = System.nanoTime();
+        Files.createDirectories(directoryPath);
+        Path filePath = resolve(sequence);
+        Path tempPath = directoryPath.resolve(PREFIX + sequence + TEMP_SUFFIX);
+        Files.write(tempPath, content);
+        Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Metrics.getGlobal().recordWrite("Snapshot", System.nanoTime() - start, content.length);
+        if (event != null && event.shouldCommit()) {
+            event.setKind("Snapshot");
+            event.setBytesWritten(content.length);
+            event.commit();
+        }
+        deleteBefore(sequence);
+    }
+
+    /**
+     * Deletes every snapshot older than the given one.
+     * A snapshot that is still mapped into memory cannot be deleted on some platforms;
+     * it is left in place and removed on a later call.
+     *
+     * @param sequence the snapshot number to keep.
+     * @throws IOException if the directory cannot be read.
+     */
+    void deleteBefore(int sequence) throws IOException {
+        for (int older : listSequences(directoryPath, PREFIX)) {
+            if (older >= sequence) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(resolve(older));
+            } catch (IOException e) {
+                // still in use; an older snapshot is never read while a newer one exists
+            }
+        }
+    }
+
+    private Path resolve(int sequence) {
+        return directoryPath.resolve(PREFIX + sequence);
+    }
+}
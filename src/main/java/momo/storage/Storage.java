@@ -1,59 +1,300 @@
 package momo.storage;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
 import momo.exception.MomoException;
-import momo.parser.Parser;
+import momo.metrics.FlightRecording;
+import momo.metrics.LoadEvent;
 import momo.task.Task;
 import momo.task.TaskList;
 
 /**
  * Handles saving and loading tasks to and from the local file system.
+ *
+ * <p>Tasks are kept as a snapshot file plus a {@link Journal} of the changes made
+ * since that snapshot was written. Commands only append to the journal, so the cost
+ * of saving a change does not grow with the number of tasks. A {@link Compactor}
+ * folds the journal into a new snapshot in the background whenever a journal
+ * segment reaches its record or size threshold, which bounds how much has to be
+ * replayed on the next startup.</p>
+ *
+ * <p>Records are written behind the caller by a {@link JournalWriter}, so commands
+ * never wait on the disk unless the write queue is full. Call {@link #flush()} to
+ * wait until every change recorded so far is on disk.</p>
  */
 public class Storage {
     private static final String DIRECTORY = "data";
-    private static final String FILE_NAME = "momo.txt";
+    private static final int DEFAULT_RECORD_THRESHOLD = 10_000;
+    private static final long DEFAULT_BYTE_THRESHOLD = 1L << 20;
+    private static final int WRITE_QUEUE_CAPACITY = 4096;
+
+    private final Path directoryPath;
+    private final Snapshots snapshots;
+    private final Journal journal;
+    private final Compactor compactor;
+    private final JournalWriter writer;
+
+    /**
+     * Creates a new {@code Storage} that keeps its files in the default data directory.
+     */
+    public Storage() {
+        this(Paths.get(DIRECTORY));
+    }
+
+    /**
+     * Creates a new {@code Storage} that keeps its files in the given directory.
+     *
+     * @param directoryPath the directory to store the files in.
+     */
+    public Storage(Path directoryPath) {
+        this(directoryPath, DEFAULT_RECORD_THRESHOLD, DEFAULT_BYTE_THRESHOLD);
+    }
+
+    /**
+     * Creates a new {@code Storage} with custom compaction thresholds.
+     *
+     * @param directoryPath the directory to store the files in.
+     * @param recordThreshold the number of journal records that triggers a compaction.
+     * @param byteThreshold the journal size in bytes that triggers a compaction.
+     */
+    Storage(Path directoryPath, int recordThreshold, long byteThreshold) {
+        this.directoryPath = directoryPath;
+        this.snapshots = new Snapshots(directoryPath);
+        this.journal = new Journal(directoryPath, recordThreshold, byteThreshold);
+        this.compactor = new Compactor(snapshots, journal);
+        this.writer = new JournalWriter(directoryPath, journal, compactor, WRITE_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Returns the directory that holds the files of this storage.
+     *
+     * @return the directory path.
+     */
+    public Path getDirectoryPath() {
+        return directoryPath;
+    }
 
     /**
-     * Saves the current tasks to a file in the local file system.
+     * Returns the number of tasks in the latest snapshot, without loading them.
+     * Changes recorded in the journal since that snapshot are not counted.
+     *
+     * @return the number of saved tasks, or 0 if there is no binary snapshot or it cannot be read.
+     */
+    public int countSavedTasks() {
+        try {
+            return snapshots.countTasks(snapshots.latest());
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Saves the current tasks as a new snapshot in the local file system.
      * Creates the directory if it does not exist.
+     * Every journal segment recorded so far is replaced by the new snapshot.
+     * Commands only append to the journal; this exists so tests and benchmarks can
+     * start from a snapshot without replaying a journal.
      *
      * @param tasks the task list to save.
      */
-    public void save(TaskList tasks) {
-        Path directoryPath = Paths.get(DIRECTORY);
-        Path filePath = directoryPath.resolve(FILE_NAME);
+    void save(TaskList tasks) {
         try {
-            Files.createDirectories(directoryPath); // does nothing if directory already exists
-            Files.writeString(filePath, tasks.convertToSaveFormat());
+            byte[] content = Snapshots.encode(tasks);
+            compactor.writeSnapshot(content, writer.seal());
         } catch (IOException e) {
             System.out.println("Error saving tasks in hard disk: " + e.getMessage());
         }
     }
 
     /**
-     * Loads tasks from the file in the local file system into the given task list.
-     * If reading the file or parsing the saved data fails, the task list is cleared
-     * to prevent partial or corrupted data.
+     * Exports the current tasks to {@code momo.txt} in the human-readable text format.
+     * The file is imported again on startup if no snapshot exists.
+     *
+     * @param tasks the task list to export.
+     * @return the path of the exported file.
+     * @throws MomoException if the file cannot be written.
+     */
+    public Path exportText(TaskList tasks) throws MomoException {
+        Path filePath = directoryPath.resolve(Snapshots.TEXT_FILE_NAME);
+        try {
+            Snapshots.writeText(filePath, tasks);
+            return filePath;
+        } catch (IOException e) {
+            throw new MomoException("The tasks could not be exported: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records the addition of a task in the journal.
+     *
+     * @param task the task that was added.
+     */
+    public void saveAdd(Task task) {
+        append(Journal.toAddRecord(task));
+    }
+
+    /**
+     * Records a task being marked as done in the journal.
+     *
+     * @param task the task that was marked.
+     */
+    public void saveMark(Task task) {
+        append(Journal.toMarkRecord(task.getId()));
+    }
+
+    /**
+     * Records a task being marked as not done in the journal.
+     *
+     * @param task the task that was unmarked.
+     */
+    public void saveUnmark(Task task) {
+        append(Journal.toUnmarkRecord(task.getId()));
+    }
+
+    /**
+     * Records the deletion of a task in the journal.
+     *
+     * @param task the task that was deleted.
+     */
+    public void saveDelete(Task task) {
+        append(Journal.toDeleteRecord(task.getId()));
+    }
+
+    /**
+     * Queues a record to be appended to the journal by the background writer.
+     *
+     * @param record the record to append.
+     */
+    private void append(String record) {
+        writer.submit(record);
+    }
+
+    /**
+     * Waits until every change recorded so far has been written to the journal.
+     * Changes that could not be written are kept, and are written again by the next flush.
+     *
+     * @throws MomoException if some changes could not be written.
+     */
+    public void flush() throws MomoException {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw toSaveException(e);
+        }
+    }
+
+    /**
+     * Waits until every change recorded so far has been written to the journal, and every
+     * background compaction has finished, so that no file in the directory is still being
+     * written. Should be the last call made on this storage before exiting.
+     *
+     * @throws MomoException if some changes could not be written.
+     */
+    public void close() throws MomoException {
+        try {
+            awaitCompaction();
+        } catch (IOException e) {
+            throw toSaveException(e);
+        }
+    }
+
+    private static MomoException toSaveException(IOException e) {
+        String errorDetail = "Some of your changes could not be saved! " + e.getMessage();
+        String errorFix = "Fix: Check that the data folder can be written to, then try again.";
+        return new MomoException(errorDetail + "\n" + errorFix);
+    }
+
+    /**
+     * Loads tasks from the latest snapshot in the local file system into the given task list,
+     * then replays the journal segments written after it.
+     * Malformed lines in a text file are skipped and written to {@code momo.quarantine.txt}.
+     * Replaying stops at the first journal record that cannot be applied: that record and
+     * every later one are set aside in {@code momo.quarantine.journal.<n>} files, and no
+     * compaction is started, so changes after a gap are never folded into the tasks.
+     * If reading the file fails, the task list is cleared to prevent partial or corrupted data.
+     * A {@link LoadEvent} is recorded for Java Flight Recorder.
+     *
      * @param tasks the task list to load tasks into.
      */
     public void load(TaskList tasks) {
-        Path filePath = Paths.get(DIRECTORY).resolve(FILE_NAME);
-        if (!Files.exists(filePath)) {
-            return;
-        }
+        LoadEvent event = FlightRecording.isEnabled() ? new LoadEvent() : null;
+        int replayedCount = 0;
+        int quarantinedCount = 0;
+        boolean isFailed = false;
         try {
-            List<String> lines = Files.readAllLines(filePath);
-            for (String line : lines) {
-                Task task = Parser.parseToTask(line);
-                tasks.addTask(task);
+            int snapshotSegment = snapshots.latest();
+            List<String> quarantined = snapshots.read(snapshotSegment, tasks);
+            quarantinedCount = quarantined.size();
+            if (!quarantined.isEmpty()) {
+                reportQuarantine(quarantined);
+            }
+            snapshots.deleteBefore(snapshotSegment);
+            journal.deleteUpTo(snapshotSegment);
+
+            List<Integer> segments = journal.listSegments();
+            int lastSegment = segments.isEmpty() ? snapshotSegment : segments.get(segments.size() - 1);
+            boolean isTruncated = false;
+            for (int i = 0; i < segments.size() && !isTruncated; i++) {
+                Journal.Replay replay = journal.replay(segments.get(i), tasks);
+                replayedCount += replay.getAppliedCount();
+                isTruncated = replay.isTruncated();
+                if (isTruncated) {
+                    reportTruncation(segments.subList(i, segments.size()), replay.getAppliedCount());
+                }
+            }
+            journal.open(lastSegment + 1);
+            compactor.setSnapshotSegment(snapshotSegment);
+            if (!isTruncated && lastSegment > snapshotSegment && replayedCount > 0) {
+                compactor.requestCompaction(lastSegment);
             }
         } catch (IOException | MomoException e) {
             tasks.clear();
+            isFailed = true;
         }
+        if (event != null && event.shouldCommit()) {
+            event.setTaskCount(tasks.size());
+            event.setReplayedCount(replayedCount);
+            event.setQuarantinedCount(quarantinedCount);
+            event.setFailed(isFailed);
+            event.commit();
+        }
+    }
+
+    /**
+     * Writes the skipped lines to the quarantine file and tells the user about them.
+     */
+    private void reportQuarantine(List<String> quarantined) {
+        try {
+            Path filePath = snapshots.writeQuarantine(quarantined);
+            System.out.println(quarantined.size() + " malformed line(s) were skipped while loading tasks. "
+                    + "See " + filePath + " for details.");
+        } catch (IOException e) {
+            System.out.println("Error saving tasks in hard disk: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sets aside the records from the one that could not be applied onwards, keeping the
+     * records applied before it, and tells the user about them.
+     */
+    private void reportTruncation(List<Integer> segments, int appliedCount) throws IOException {
+        Path firstPath = journal.quarantine(segments.get(0), appliedCount);
+        for (int segment : segments.subList(1, segments.size())) {
+            journal.quarantine(segment, 0);
+        }
+        System.out.println("Some saved changes could not be loaded, so " + segments.size()
+                + " journal file(s) were set aside, starting with " + firstPath + ".");
+    }
+
+    /**
+     * Waits until every change recorded so far has been written and every
+     * background compaction it triggered has finished.
+     */
+    void awaitCompaction() throws IOException {
+        writer.flush();
+        compactor.awaitIdle();
     }
 }
@@ -0,0 +1,211 @@
+package momo.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import momo.exception.MomoException;
+import momo.parser.Parser;
+import momo.task.Task;
+import momo.task.TaskList;
+
+/**
+ * Loads files in the text save format in parallel.
+ *
+ * <p>The file is split into chunks that end on a line break. Each chunk is mapped
+ * and parsed on a {@link ForkJoinPool}, so the file is never read into memory as a
+ * whole. The parsed tasks are added to the task list in their original order.
+ * Lines that cannot be parsed are quarantined instead of discarding the whole list.</p>
+ */
+class TextTaskLoader {
+    static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates a new {@code TextTaskLoader} that parses on the common pool.
+     */
+    TextTaskLoader() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new {@code TextTaskLoader}.
+     *
+     * @param pool the pool that parses the chunks.
+     * @param chunkSize the target size of each chunk in bytes.
+     */
+    TextTaskLoader(ForkJoinPool pool, int chunkSize) {
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Loads every well-formed line of the file into the task list.
+     *
+     * @param filePath the file to load.
+     * @param tasks the task list to add the tasks to.
+     * @return a description of every quarantined line, in file order.
+     * @throws IOException if the file cannot be read.
+     */
+    List<String> load(Path filePath, TaskList tasks) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long[] boundaries = findChunkBoundaries(channel);
+            Chunk result = pool.invoke(new ParseTask(channel, boundaries, 0, boundaries.length - 1));
+            if (result.failure != null) {
+                throw result.failure;
+            }
+            for (Task task : result.tasks) {
+                tasks.addTask(task);
+            }
+            List<String> report = new ArrayList<>();
+            for (int i = 0; i < result.quarantined.size(); i++) {
+                report.add("Line " + result.quarantinedLines.get(i) + ": " + result.quarantined.get(i));
+            }
+            return report;
+        }
+    }
+
+    /**
+     * Returns the offsets at which chunks start, followed by the file size.
+     * Every chunk except the last ends just after a line break.
+     */
+    private long[] findChunkBoundaries(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> boundaries = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long start = 0;
+        while (start < size) {
+            boundaries.add(start);
+            long end = Math.min(start + chunkSize, size);
+            while (end < size) {
+                buffer.clear();
+                int read = channel.read(buffer, end);
+                int lineBreak = indexOf(buffer, read, (byte) '\n');
+                if (lineBreak >= 0) {
+                    end += lineBreak + 1;
+                    break;
+                }
+                end += read;
+            }
+            start = end;
+        }
+        boundaries.add(size);
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static int indexOf(ByteBuffer buffer, int length, byte target) {
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Holds the result of parsing one or more consecutive chunks.
+     * Quarantined line numbers are counted from the start of the first chunk.
+     */
+    private static class Chunk {
+        private final List<Task> tasks = new ArrayList<>();
+        private final List<String> quarantined = new ArrayList<>();
+        private final List<Integer> quarantinedLines = new ArrayList<>();
+        private int lineCount;
+        private IOException failure;
+
+        /**
+         * Appends the result of the chunk that directly follows this one.
+         */
+        private Chunk append(Chunk next) {
+            tasks.addAll(next.tasks);
+            quarantined.addAll(next.quarantined);
+            for (int line : next.quarantinedLines) {
+                quarantinedLines.add(lineCount + line);
+            }
+            lineCount += next.lineCount;
+            if (failure == null) {
+                failure = next.failure;
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Parses a range of chunks, splitting the range in half until a single chunk is left.
+     * Tasks are only ever run in the pool of this loader and are never serialized.
+     */
+    private static class ParseTask extends RecursiveTask<Chunk> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long[] boundaries;
+        private final int from;
+        private final int to;
+
+        private ParseTask(FileChannel channel, long[] boundaries, int from, int to) {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Chunk compute() {
+            if (to - from <= 1) {
+                return from == to ? new Chunk() : parse(boundaries[from], boundaries[to]);
+            }
+            int middle = (from + to) >>> 1;
+            ParseTask second = new ParseTask(channel, boundaries, middle, to);
+            second.fork();
+            Chunk first = new ParseTask(channel, boundaries, from, middle).compute();
+            return first.append(second.join());
+        }
+
+        private Chunk parse(long start, long end) {
+            Chunk parsed = new Chunk();
+            String text;
+            try {
+                ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                text = StandardCharsets.UTF_8.decode(bytes).toString();
+            } catch (IOException e) {
+                parsed.failure = e;
+                return parsed;
+            }
+
+            int lineStart = 0;
+            while (lineStart < text.length()) {
+                int lineEnd = text.indexOf('\n', lineStart);
+                int next = lineEnd < 0 ? text.length() : lineEnd + 1;
+                lineEnd = lineEnd < 0 ? text.length() : lineEnd;
+                if (lineEnd > lineStart && text.charAt(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                parsed.lineCount++;
+                parseLine(text.substring(lineStart, lineEnd), parsed);
+                lineStart = next;
+            }
+            return parsed;
+        }
+
+        private static void parseLine(String line, Chunk parsed) {
+            if (line.isBlank()) {
+                return;
+            }
+            try {
+                parsed.tasks.add(Parser.parseToTask(line));
+            } catch (MomoException e) {
+                parsed.quarantinedLines.add(parsed.lineCount);
+                parsed.quarantined.add(line + " (" + e.getMessage() + ")");
+            }
+        }
+    }
+}
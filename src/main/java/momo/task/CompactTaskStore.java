@@ -0,0 +1,195 @@
+package momo.task;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Keeps tasks in parallel primitive arrays instead of as {@link Task} objects.
+ *
+ * <p>Each slot has a kind byte, which holds the type of the task and whether it is done,
+ * the task identifier, the epoch minutes of its times, and the offset and length of its
+ * description in a shared arena of UTF-8 bytes. This is the same layout as a binary
+ * snapshot, and takes a fraction of the memory of the objects: a deadline costs about
+ * 33 bytes plus its description, instead of a {@link Deadline}, a {@link String} and a
+ * {@link java.time.LocalDateTime} with its date and time.</p>
+ *
+ * <p>{@link #get(int)} builds a new task every time it is called, whose description is
+ * only decoded when first used. Times are kept to the minute, which is all that Momo reads
+ * or saves. The bytes of deleted descriptions stay in the arena until they outnumber the
+ * bytes in use, and the arena is then copied without them when it next runs out of room.
+ * Bytes in the arena are never overwritten, so tasks built earlier keep their
+ * descriptions.</p>
+ */
+public class CompactTaskStore implements TaskStore {
+    private static final byte EMPTY = 0;
+    private static final byte TODO = 1;
+    private static final byte DEADLINE = 2;
+    private static final byte EVENT = 3;
+    private static final byte TYPE_MASK = 3;
+    private static final byte DONE_FLAG = 4;
+    private static final int INITIAL_ARENA_SIZE = 1024;
+    private static final int MAX_ARENA_SIZE = Integer.MAX_VALUE - 8;
+
+    private byte[] kinds = new byte[0];
+    private long[] ids = new long[0];
+    private long[] starts = new long[0];
+    private long[] ends = new long[0];
+    private int[] descriptionOffsets = new int[0];
+    private int[] descriptionLengths = new int[0];
+    private byte[] arena = new byte[INITIAL_ARENA_SIZE];
+    private int arenaSize;
+    private int garbageSize;
+
+    @Override
+    public int capacity() {
+        return kinds.length;
+    }
+
+    @Override
+    public void resize(int capacity) {
+        kinds = Arrays.copyOf(kinds, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        descriptionOffsets = Arrays.copyOf(descriptionOffsets, capacity);
+        descriptionLengths = Arrays.copyOf(descriptionLengths, capacity);
+    }
+
+    @Override
+    public void put(int slot, Task task) {
+        byte type;
+        if (task instanceof Deadline) {
+            type = DEADLINE;
+            starts[slot] = DateTimeCodec.toEpochMinute(((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            type = EVENT;
+            starts[slot] = DateTimeCodec.toEpochMinute(event.getFrom());
+            ends[slot] = DateTimeCodec.toEpochMinute(event.getTo());
+        } else {
+            type = TODO;
+        }
+        kinds[slot] = task.isDone() ? (byte) (type | DONE_FLAG) : type;
+        ids[slot] = task.getId();
+
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        reserveArena(description.length);
+        System.arraycopy(description, 0, arena, arenaSize, description.length);
+        descriptionOffsets[slot] = arenaSize;
+        descriptionLengths[slot] = description.length;
+        arenaSize += description.length;
+    }
+
+    @Override
+    public Task get(int slot) {
+        byte kind = kinds[slot];
+        if (kind == EMPTY) {
+            return null;
+        }
+        ByteBuffer description = ByteBuffer.wrap(arena, descriptionOffsets[slot], descriptionLengths[slot]);
+        boolean isDone = (kind & DONE_FLAG) != 0;
+        Task task;
+        switch (kind & TYPE_MASK) {
+        case DEADLINE:
+            task = new Deadline(description, DateTimeCodec.fromEpochMinute(starts[slot]), isDone);
+            break;
+        case EVENT:
+            task = new Event(description, DateTimeCodec.fromEpochMinute(starts[slot]),
+                    DateTimeCodec.fromEpochMinute(ends[slot]), isDone);
+            break;
+        default:
+            task = new Todo(description, isDone);
+            break;
+        }
+        if (ids[slot] > 0) {
+            task.setId(ids[slot]);
+        }
+        return task;
+    }
+
+    @Override
+    public boolean isPresent(int slot) {
+        return kinds[slot] != EMPTY;
+    }
+
+    @Override
+    public long getId(int slot) {
+        return ids[slot];
+    }
+
+    @Override
+    public void setDone(int slot, boolean isDone) {
+        kinds[slot] = isDone ? (byte) (kinds[slot] | DONE_FLAG) : (byte) (kinds[slot] & TYPE_MASK);
+    }
+
+    @Override
+    public void remove(int slot) {
+        kinds[slot] = EMPTY;
+        garbageSize += descriptionLengths[slot];
+    }
+
+    @Override
+    public void move(int fromSlot, int toSlot) {
+        kinds[toSlot] = kinds[fromSlot];
+        ids[toSlot] = ids[fromSlot];
+        starts[toSlot] = starts[fromSlot];
+        ends[toSlot] = ends[fromSlot];
+        descriptionOffsets[toSlot] = descriptionOffsets[fromSlot];
+        descriptionLengths[toSlot] = descriptionLengths[fromSlot];
+        kinds[fromSlot] = EMPTY;
+    }
+
+    @Override
+    public void clear(int slotCount) {
+        Arrays.fill(kinds, 0, slotCount, EMPTY);
+        arena = new byte[INITIAL_ARENA_SIZE];
+        arenaSize = 0;
+        garbageSize = 0;
+    }
+
+    @Override
+    public Stream<Task> stream(int fromSlot, int toSlot) {
+        return IntStream.range(fromSlot, toSlot).mapToObj(this::get).filter(Objects::nonNull);
+    }
+
+    /**
+     * Makes room at the end of the arena for a description of the given length, by copying
+     * the descriptions in use into a new arena. The new arena leaves out the bytes of
+     * deleted descriptions if they outnumber the bytes in use, and is half as large again
+     * otherwise, which wastes less memory than doubling once the arena is hundreds of MiB.
+     */
+    private void reserveArena(int length) {
+        if (arenaSize + length <= arena.length) {
+            return;
+        }
+        int liveSize = arenaSize - garbageSize;
+        boolean isMostlyGarbage = garbageSize >= liveSize;
+        long requiredSize = (long) (isMostlyGarbage ? liveSize : arenaSize) + length;
+        if (requiredSize > MAX_ARENA_SIZE) {
+            throw new OutOfMemoryError("Task descriptions take up more than 2 GiB");
+        }
+        long newSize = arena.length;
+        while (newSize < requiredSize) {
+            newSize += newSize >> 1;
+        }
+        byte[] newArena = new byte[(int) Math.min(newSize, MAX_ARENA_SIZE)];
+        if (isMostlyGarbage) {
+            arenaSize = 0;
+            for (int slot = 0; slot < kinds.length; slot++) {
+                if (kinds[slot] != EMPTY) {
+                    System.arraycopy(arena, descriptionOffsets[slot], newArena, arenaSize, descriptionLengths[slot]);
+                    descriptionOffsets[slot] = arenaSize;
+                    arenaSize += descriptionLengths[slot];
+                }
+            }
+            garbageSize = 0;
+        } else {
+            System.arraycopy(arena, 0, newArena, 0, arenaSize);
+        }
+        arena = newArena;
+    }
+}
@@ -0,0 +1,151 @@
+package momo.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converts dates and times between {@link LocalDateTime} and the formats used by Momo.
+ *
+ * <p>The storage format {@code yyyy-MM-dd HHmm} is parsed and printed by hand when the
+ * value has the usual fixed width and is clearly valid. Anything else is passed to a
+ * cached {@link DateTimeFormatter}, so unusual input is resolved or rejected exactly as
+ * {@link LocalDateTime#parse(CharSequence, DateTimeFormatter)} would.</p>
+ */
+public final class DateTimeCodec {
+    /** The pattern of the format used for input and storage. */
+    public static final String STORAGE_PATTERN = "yyyy-MM-dd HHmm";
+
+    private static final DateTimeFormatter STORAGE_FORMATTER = DateTimeFormatter.ofPattern(STORAGE_PATTERN);
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MMM d yyyy, h:mma");
+    private static final DateTimeFormatter DATE_DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MMM d yyyy");
+    private static final int STORAGE_LENGTH = STORAGE_PATTERN.length();
+
+    private DateTimeCodec() {
+    }
+
+    /**
+     * Parses a date and time in the storage format.
+     *
+     * @param text the text to parse.
+     * @return the parsed date and time.
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date and time.
+     */
+    public static LocalDateTime parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses a date and time in the storage format from part of a character sequence.
+     *
+     * @param text the text containing the date and time.
+     * @param start the start offset, inclusive.
+     * @param end the end offset, exclusive.
+     * @return the parsed date and time.
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date and time.
+     */
+    public static LocalDateTime parse(CharSequence text, int start, int end) {
+        if (end - start == STORAGE_LENGTH
+                && text.charAt(start + 4) == '-' && text.charAt(start + 7) == '-' && text.charAt(start + 10) == ' ') {
+            int year = parseDigits(text, start, 4);
+            int month = parseDigits(text, start + 5, 2);
+            int day = parseDigits(text, start + 8, 2);
+            int hour = parseDigits(text, start + 11, 2);
+            int minute = parseDigits(text, start + 13, 2);
+            if (year >= 1 && month >= 1 && month <= 12
+                    && day >= 1 && day <= Month.of(month).length(Year.isLeap(year))
+                    && hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59) {
+                return LocalDateTime.of(year, month, day, hour, minute);
+            }
+        }
+        return STORAGE_FORMATTER.parse(text.subSequence(start, end), LocalDateTime::from);
+    }
+
+    /**
+     * Returns the value of a run of ASCII digits, or -1 if any character is not a digit.
+     */
+    private static int parseDigits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Formats a date and time in the storage format.
+     *
+     * @param dateTime the date and time to format.
+     * @return the formatted text.
+     */
+    public static String format(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 1 || year > 9999) {
+            return dateTime.format(STORAGE_FORMATTER);
+        }
+        char[] chars = new char[STORAGE_LENGTH];
+        putDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        putDigits(chars, 5, dateTime.getMonthValue(), 2);
+        chars[7] = '-';
+        putDigits(chars, 8, dateTime.getDayOfMonth(), 2);
+        chars[10] = ' ';
+        putDigits(chars, 11, dateTime.getHour(), 2);
+        putDigits(chars, 13, dateTime.getMinute(), 2);
+        return new String(chars);
+    }
+
+    private static void putDigits(char[] chars, int start, int value, int count) {
+        for (int i = start + count - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Formats a date and time for display to the user, such as {@code Dec 2 2025, 6:00PM}.
+     *
+     * @param dateTime the date and time to format.
+     * @return the formatted text.
+     */
+    public static String formatForDisplay(LocalDateTime dateTime) {
+        return dateTime.format(DISPLAY_FORMATTER);
+    }
+
+    /**
+     * Formats a date for display to the user, such as {@code Dec 2 2025}.
+     *
+     * @param date the date to format.
+     * @return the formatted text.
+     */
+    public static String formatForDisplay(LocalDate date) {
+        return date.format(DATE_DISPLAY_FORMATTER);
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to the given date and time, taken as UTC.
+     *
+     * @param dateTime the date and time.
+     * @return the epoch minute.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Returns the date and time the given number of minutes after the epoch, taken as UTC.
+     *
+     * @param epochMinute the epoch minute.
+     * @return the date and time.
+     */
+    public static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+}
@@ -1,7 +1,7 @@
 package momo.task;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a deadline task with a due date and time.
@@ -34,6 +34,18 @@ public class Deadline extends Task {
         this.by = by;
     }
 
+    /**
+     * Creates a new {@code Deadline} task whose description is decoded only when first used.
+     *
+     * @param encodedDescription the UTF-8 bytes of the description.
+     * @param by the due date and time of the task.
+     * @param isDone whether the task is marked as done.
+     */
+    public Deadline(ByteBuffer encodedDescription, LocalDateTime by, boolean isDone) {
+        super(encodedDescription, isDone);
+        this.by = by;
+    }
+
     /**
      * Returns the due date and time of the task.
      *
@@ -51,18 +63,16 @@ public class Deadline extends Task {
      */
     @Override
     public String toString() {
-        return "[D]" + super.toString() + " (by: "
-                + by.format(DateTimeFormatter.ofPattern("MMM d yyyy, h:mma")) + ")";
+        return "[D]" + super.toString() + " (by: " + DateTimeCodec.formatForDisplay(by) + ")";
     }
 
     /**
      * Converts the deadline task to a string format suitable for saving to disk.
      *
-     * @return a string in the format {@code "D | <status> | <description> | <yyyy-MM-dd HHmm>"}.
+     * @return a string in the format {@code "[#<id> | ]D | <status> | <description> | <yyyy-MM-dd HHmm>"}.
      */
     @Override
     public String convertToSaveFormat() {
-        return "D | " + super.convertToSaveFormat()
-                + String.format(" | %s", by.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm")));
+        return getIdPrefix() + "D | " + super.convertToSaveFormat() + " | " + DateTimeCodec.format(by);
     }
 }
@@ -1,7 +1,7 @@
 package momo.task;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents an event task with a start and end date/time.
@@ -40,6 +40,20 @@ public class Event extends Task {
         this.to = to;
     }
 
+    /**
+     * Creates a new {@code Event} task whose description is decoded only when first used.
+     *
+     * @param encodedDescription the UTF-8 bytes of the description.
+     * @param from the start date and time of the event.
+     * @param to the end date and time of the event.
+     * @param isDone whether the event is marked as done.
+     */
+    public Event(ByteBuffer encodedDescription, LocalDateTime from, LocalDateTime to, boolean isDone) {
+        super(encodedDescription, isDone);
+        this.from = from;
+        this.to = to;
+    }
+
     /**
      * Returns the start date and time of the event.
      *
@@ -67,20 +81,19 @@ public class Event extends Task {
     @Override
     public String toString() {
         return "[E]" + super.toString() + " (from: "
-                + from.format(DateTimeFormatter.ofPattern("MMM d yyyy, h:mma")) + " to: "
-                + to.format(DateTimeFormatter.ofPattern("MMM d yyyy, h:mma")) + ")";
+                + DateTimeCodec.formatForDisplay(from) + " to: "
+                + DateTimeCodec.formatForDisplay(to) + ")";
     }
 
     /**
      * Converts the event task to a string format suitable for saving to disk.
      *
-     * @return a string in the format {@code "E | <status> | <description> | <yyyy-MM-dd HHmm> | <yyyy-MM-dd HHmm>"}.
+     * @return a string in the format
+     *         {@code "[#<id> | ]E | <status> | <description> | <yyyy-MM-dd HHmm> | <yyyy-MM-dd HHmm>"}.
      */
     @Override
     public String convertToSaveFormat() {
-        return "E | " + super.convertToSaveFormat()
-                + String.format(" | %s | %s",
-                from.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm")),
-                to.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm")));
+        return getIdPrefix() + "E | " + super.convertToSaveFormat()
+                + " | " + DateTimeCodec.format(from) + " | " + DateTimeCodec.format(to);
     }
 }
@@ -0,0 +1,129 @@
+package momo.task;
+
+import java.util.BitSet;
+
+/**
+ * Counts the live slots of a {@link TaskList} so that positions can be mapped to slots
+ * in logarithmic time while deleted slots are still present.
+ *
+ * <p>Each slot holds 1 if it contains a task and 0 if it is empty. The tree answers
+ * prefix sums, which give the position of a slot, and finds the slot holding the
+ * k-th task, which gives the slot of a position. A second tree over the same slots that
+ * only counts the done tasks finds the k-th done task in the same way, and the k-th task
+ * that is not done through {@link #findKthExcluding(FenwickTree, int)}.</p>
+ */
+class FenwickTree {
+    private final int[] tree;
+
+    /**
+     * Creates a new {@code FenwickTree} in which the first {@code liveCount} slots are live.
+     *
+     * @param capacity the number of slots.
+     * @param liveCount the number of leading slots that contain a task.
+     */
+    FenwickTree(int capacity, int liveCount) {
+        tree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            if (i <= liveCount) {
+                tree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@code FenwickTree} in which the set slots of the given bit set are live.
+     *
+     * @param capacity the number of slots.
+     * @param liveSlots the slots that contain a task, all below {@code capacity}.
+     */
+    FenwickTree(int capacity, BitSet liveSlots) {
+        tree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            if (liveSlots.get(i - 1)) {
+                tree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of slots in the tree.
+     *
+     * @return the capacity.
+     */
+    int capacity() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Adds the given amount to a slot.
+     *
+     * @param slot the zero-based slot.
+     * @param delta 1 when a task is placed in the slot, -1 when it is removed.
+     */
+    void add(int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the number of live slots up to and including the given slot.
+     *
+     * @param slot the zero-based slot.
+     * @return the number of live slots in {@code [0, slot]}.
+     */
+    int prefixSum(int slot) {
+        int sum = 0;
+        for (int i = slot + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the slot holding the k-th live task.
+     *
+     * @param k the one-based rank of the task, which must not exceed the number of live slots.
+     * @return the zero-based slot.
+     */
+    int findKth(int k) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(capacity()); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] < k) {
+                position = next;
+                k -= tree[next];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the slot holding the k-th task that is counted by this tree but not by the
+     * excluded tree, such as the k-th task that is not done.
+     *
+     * @param excluded a tree of the same capacity that only counts slots this tree counts.
+     * @param k the one-based rank of the task, which must not exceed the number of such tasks.
+     * @return the zero-based slot.
+     */
+    int findKthExcluding(FenwickTree excluded, int k) {
+        assert excluded.tree.length == tree.length : "Trees must have the same capacity";
+        int position = 0;
+        for (int step = Integer.highestOneBit(capacity()); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] - excluded.tree[next] < k) {
+                position = next;
+                k -= tree[next] - excluded.tree[next];
+            }
+        }
+        return position;
+    }
+}
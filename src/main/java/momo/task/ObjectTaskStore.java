@@ -0,0 +1,75 @@
+package momo.task;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Keeps each task as the {@link Task} object it was added as.
+ *
+ * <p>This is the store a {@link TaskList} uses by default. Getting a task costs nothing,
+ * and the task returned is the same object every time.</p>
+ */
+public class ObjectTaskStore implements TaskStore {
+    private Task[] slots = new Task[0];
+
+    @Override
+    public int capacity() {
+        return slots.length;
+    }
+
+    @Override
+    public void resize(int capacity) {
+        slots = Arrays.copyOf(slots, capacity);
+    }
+
+    @Override
+    public void put(int slot, Task task) {
+        slots[slot] = task;
+    }
+
+    @Override
+    public Task get(int slot) {
+        return slots[slot];
+    }
+
+    @Override
+    public boolean isPresent(int slot) {
+        return slots[slot] != null;
+    }
+
+    @Override
+    public long getId(int slot) {
+        return slots[slot].getId();
+    }
+
+    @Override
+    public void setDone(int slot, boolean isDone) {
+        if (isDone) {
+            slots[slot].markAsDone();
+        } else {
+            slots[slot].unmarkFromDone();
+        }
+    }
+
+    @Override
+    public void remove(int slot) {
+        slots[slot] = null;
+    }
+
+    @Override
+    public void move(int fromSlot, int toSlot) {
+        slots[toSlot] = slots[fromSlot];
+        slots[fromSlot] = null;
+    }
+
+    @Override
+    public void clear(int slotCount) {
+        Arrays.fill(slots, 0, slotCount, null);
+    }
+
+    @Override
+    public Stream<Task> stream(int fromSlot, int toSlot) {
+        return Arrays.stream(slots, fromSlot, toSlot).filter(Objects::nonNull);
+    }
+}
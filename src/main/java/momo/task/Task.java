@@ -1,5 +1,8 @@
 package momo.task;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Represents a generic task with a description and completion status.
  * This is an abstract class that is extended by specific types of tasks
@@ -9,6 +12,12 @@ public abstract class Task {
     protected String description;
     protected boolean isDone;
 
+    /** Stable identifier assigned when the task is first added to a {@link TaskList}, or 0 if unassigned. */
+    private long id;
+
+    /** UTF-8 bytes of a description that has not been decoded yet, or {@code null}. */
+    private ByteBuffer encodedDescription;
+
     /**
      * Creates a new {@code Task} with the given description.
      * The task is initially not done.
@@ -31,6 +40,17 @@ public abstract class Task {
         this.isDone = isDone;
     }
 
+    /**
+     * Creates a new {@code Task} whose description is decoded from UTF-8 only when first used.
+     *
+     * @param encodedDescription the UTF-8 bytes of the description.
+     * @param isDone whether the task is marked as done.
+     */
+    public Task(ByteBuffer encodedDescription, boolean isDone) {
+        this.encodedDescription = encodedDescription;
+        this.isDone = isDone;
+    }
+
     /**
      * Returns the status icon representing whether the task is done.
      *
@@ -46,9 +66,41 @@ public abstract class Task {
      * @return the task description.
      */
     public String getDescription() {
+        if (encodedDescription != null) {
+            description = StandardCharsets.UTF_8.decode(encodedDescription).toString();
+            encodedDescription = null;
+        }
         return description;
     }
 
+    /**
+     * Returns the stable identifier of the task.
+     *
+     * @return the identifier, or 0 if the task has never been added to a task list.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the stable identifier of the task.
+     *
+     * @param id the identifier, which must be positive.
+     */
+    public void setId(long id) {
+        assert id > 0 : "Task id must be positive";
+        this.id = id;
+    }
+
+    /**
+     * Returns the prefix that stores the identifier in the save format.
+     *
+     * @return {@code "#<id> | "}, or an empty string if no identifier has been assigned.
+     */
+    protected String getIdPrefix() {
+        return id == 0 ? "" : "#" + id + " | ";
+    }
+
     /**
      * Returns whether the task is marked as done.
      *
@@ -80,7 +132,7 @@ public abstract class Task {
      */
     @Override
     public String toString() {
-        return "[" + this.getStatusIcon() + "] " + this.description;
+        return "[" + this.getStatusIcon() + "] " + this.getDescription();
     }
 
     /**
@@ -90,6 +142,6 @@ public abstract class Task {
      *         where status is 1 if done, 0 if not done.
      */
     public String convertToSaveFormat() {
-        return String.format("%d | %s", isDone ? 1 : 0, description);
+        return (isDone ? "1" : "0") + " | " + getDescription();
     }
 }
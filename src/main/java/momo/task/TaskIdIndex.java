@@ -0,0 +1,130 @@
+package momo.task;
+
+import java.util.Arrays;
+
+/**
+ * Maps task identifiers to slots in a {@link TaskList}.
+ *
+ * <p>Keys and values are kept in parallel primitive arrays using open addressing with
+ * linear probing, so lookups do not box the identifier or allocate. Removal shifts
+ * later entries of the probe sequence back instead of leaving markers behind, which
+ * keeps lookups short no matter how many tasks have been deleted.</p>
+ */
+class TaskIdIndex {
+    static final int MISSING = -1;
+
+    private static final long EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Creates a new, empty {@code TaskIdIndex}.
+     */
+    TaskIdIndex() {
+        keys = new long[MIN_CAPACITY];
+        values = new int[MIN_CAPACITY];
+    }
+
+    /**
+     * Returns the slot of the task with the given identifier.
+     *
+     * @param id the task identifier.
+     * @return the slot, or {@link #MISSING} if no task has the identifier.
+     */
+    int get(long id) {
+        int mask = keys.length - 1;
+        for (int i = hash(id) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == id) {
+                return values[i];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Associates the identifier with the given slot, replacing any previous slot.
+     *
+     * @param id the task identifier, which must be positive.
+     * @param slot the slot of the task.
+     */
+    void put(long id, int slot) {
+        assert id != EMPTY : "Task id must be assigned";
+
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int i = hash(id) & mask;
+        while (keys[i] != EMPTY) {
+            if (keys[i] == id) {
+                values[i] = slot;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = id;
+        values[i] = slot;
+        size++;
+    }
+
+    /**
+     * Removes the identifier from the index.
+     *
+     * @param id the task identifier.
+     */
+    void remove(long id) {
+        int mask = keys.length - 1;
+        int i = hash(id) & mask;
+        while (keys[i] != id) {
+            if (keys[i] == EMPTY) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        size--;
+
+        // Move back any later entry whose probe sequence passes through the freed position.
+        int gap = i;
+        for (int j = (gap + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = hash(keys[j]) & mask;
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = EMPTY;
+    }
+
+    /**
+     * Removes every identifier from the index.
+     */
+    void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Spreads sequential identifiers across the table.
+     */
+    private static int hash(long id) {
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -1,21 +1,109 @@
 package momo.task;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import momo.task.index.IntervalIndex;
+import momo.task.index.TaskIndex;
+import momo.task.index.TimeIndex;
+import momo.task.index.TokenIndex;
+import momo.task.index.TrigramIndex;
+
 /**
  * Represents a list of tasks and provides operations to manage them.
+ *
+ * <p>The tasks are kept in the slots of a {@link TaskStore}: an {@link ObjectTaskStore}
+ * by default, or a {@link CompactTaskStore} for very long lists, which keeps tasks as
+ * primitive arrays and builds a {@link Task} each time one is requested. Either way, the
+ * list only changes a task through its store, so callers must change tasks through the
+ * methods of the list, such as {@link #markTask(int)}, and never through a returned task,
+ * which may be a copy.</p>
+ *
+ * <p>Every task added to the list is given a stable identifier, which can be used to
+ * find it in constant time through a {@link TaskIdIndex}. Tasks are also numbered by
+ * their position in the list. Deleting a task only empties its slot, so later tasks are
+ * not shifted; a {@link FenwickTree} over the slots maps positions to slots while empty
+ * slots remain, and the slots are compacted once empty slots outnumber the tasks.</p>
+ *
+ * <p>The slots holding tasks that are done are also set in a {@link BitSet}, so the
+ * done and undone tasks can be counted and listed without reading every task. A second
+ * {@link FenwickTree} counts the done slots, so a listing of done or undone tasks can
+ * start at any position in logarithmic time.</p>
+ *
+ * <p>Secondary {@link TaskIndex} instances, such as the {@link TokenIndex},
+ * {@link TrigramIndex}, {@link TimeIndex} and {@link IntervalIndex} used for searching,
+ * are built the first time they are requested and are then updated as tasks are added
+ * and deleted.</p>
  */
 public class TaskList {
-    private final ArrayList<Task> tasks = new ArrayList<>();
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_COMPACTION_SLOTS = 64;
+
+    private final TaskStore store;
+    private FenwickTree liveSlots = new FenwickTree(INITIAL_CAPACITY, 0);
+    private final TaskIdIndex idIndex = new TaskIdIndex();
+    private BitSet doneSlots = new BitSet();
+    private FenwickTree doneCounts = new FenwickTree(INITIAL_CAPACITY, 0);
+    private final List<TaskIndex> indexes = new ArrayList<>();
+    private TokenIndex tokenIndex;
+    private TrigramIndex trigramIndex;
+    private TimeIndex timeIndex;
+    private IntervalIndex intervalIndex;
+    private int slotCount;
+    private int size;
+    private long nextId = 1;
+
+    /**
+     * Creates an empty {@code TaskList} that keeps its tasks as {@link Task} objects.
+     */
+    public TaskList() {
+        this(new ObjectTaskStore());
+    }
+
+    /**
+     * Creates an empty {@code TaskList} that keeps its tasks in the given store.
+     *
+     * @param store the empty store to keep the tasks in.
+     */
+    public TaskList(TaskStore store) {
+        assert store.capacity() == 0 : "TaskStore must be empty";
+        this.store = store;
+        store.resize(INITIAL_CAPACITY);
+    }
 
     /**
      * Adds a task to the list.
+     * A task without an identifier, or whose identifier is already in use, is given a new one.
      *
      * @param task the task to add.
      */
     public void addTask(Task task) {
-        tasks.add(task);
+        long id = task.getId();
+        if (id == 0 || idIndex.get(id) != TaskIdIndex.MISSING) {
+            id = nextId;
+            task.setId(id);
+        }
+        nextId = Math.max(nextId, id + 1);
+
+        if (slotCount == store.capacity()) {
+            makeRoom();
+        }
+        store.put(slotCount, task);
+        liveSlots.add(slotCount, 1);
+        if (task.isDone()) {
+            doneSlots.set(slotCount);
+            doneCounts.add(slotCount, 1);
+        }
+        idIndex.put(id, slotCount);
+        slotCount++;
+        size++;
+        for (TaskIndex index : indexes) {
+            index.add(task);
+        }
     }
 
     /**
@@ -25,17 +113,118 @@ public class TaskList {
      * @return the task that was removed.
      */
     public Task deleteTask(int index) {
-        return tasks.remove(index);
+        int slot = toSlot(index);
+        Task task = store.get(slot);
+        store.remove(slot);
+        liveSlots.add(slot, -1);
+        setDoneSlot(slot, false);
+        idIndex.remove(task.getId());
+        size--;
+        for (TaskIndex taskIndex : indexes) {
+            taskIndex.remove(task);
+        }
+
+        while (slotCount > 0 && !store.isPresent(slotCount - 1)) {
+            slotCount--;
+        }
+        int emptySlots = slotCount - size;
+        if (emptySlots >= MIN_COMPACTION_SLOTS && emptySlots > size) {
+            compact(store.capacity());
+        }
+        return task;
     }
 
     /**
      * Retrieves the task at the specified index.
+     * The task may be a copy, so changing it does not change the list.
      *
      * @param index the index of the task to retrieve.
      * @return the task at the given index.
      */
     public Task getTask(int index) {
-        return tasks.get(index);
+        return store.get(toSlot(index));
+    }
+
+    /**
+     * Retrieves the task with the specified identifier.
+     *
+     * @param id the identifier of the task.
+     * @return the task, or {@code null} if no task in the list has the identifier.
+     */
+    public Task getTaskById(long id) {
+        int slot = idIndex.get(id);
+        return slot == TaskIdIndex.MISSING ? null : store.get(slot);
+    }
+
+    /**
+     * Returns the index of the task with the specified identifier.
+     *
+     * @param id the identifier of the task.
+     * @return the zero-based index, or -1 if no task in the list has the identifier.
+     */
+    public int indexOf(long id) {
+        int slot = idIndex.get(id);
+        if (slot == TaskIdIndex.MISSING) {
+            return -1;
+        }
+        return size == slotCount ? slot : liveSlots.prefixSum(slot) - 1;
+    }
+
+    /**
+     * Returns the index of the words in the task descriptions, building it if needed.
+     *
+     * @return the token index, which is kept up to date with this list.
+     */
+    public TokenIndex getTokenIndex() {
+        if (tokenIndex == null) {
+            tokenIndex = register(new TokenIndex());
+        }
+        return tokenIndex;
+    }
+
+    /**
+     * Returns the index of the trigrams in the task descriptions, building it if needed.
+     *
+     * @return the trigram index, which is kept up to date with this list.
+     */
+    public TrigramIndex getTrigramIndex() {
+        if (trigramIndex == null) {
+            trigramIndex = register(new TrigramIndex());
+        }
+        return trigramIndex;
+    }
+
+    /**
+     * Returns the index of the due times of deadlines, building it if needed.
+     *
+     * @return the time index, which is kept up to date with this list.
+     */
+    public TimeIndex getTimeIndex() {
+        if (timeIndex == null) {
+            timeIndex = register(new TimeIndex());
+        }
+        return timeIndex;
+    }
+
+    /**
+     * Returns the index of the time spans of events, building it if needed.
+     *
+     * @return the interval index, which is kept up to date with this list.
+     */
+    public IntervalIndex getIntervalIndex() {
+        if (intervalIndex == null) {
+            intervalIndex = register(new IntervalIndex());
+        }
+        return intervalIndex;
+    }
+
+    /**
+     * Fills the index with the tasks in this list and keeps it up to date from then on.
+     */
+    private <T extends TaskIndex> T register(T index) {
+        stream().forEach(index::add);
+        indexes.add(index);
+        return index;
     }
 
     /**
@@ -44,7 +233,9 @@ public class TaskList {
      * @param index the index of the task to mark as done.
      */
     public void markTask(int index) {
-        getTask(index).markAsDone();
+        int slot = toSlot(index);
+        store.setDone(slot, true);
+        setDoneSlot(slot, true);
     }
 
     /**
@@ -53,7 +244,9 @@ public class TaskList {
      * @param index the index of the task to unmark.
      */
     public void unmarkTask(int index) {
-        getTask(index).unmarkFromDone();
+        int slot = toSlot(index);
+        store.setDone(slot, false);
+        setDoneSlot(slot, false);
     }
 
     /**
@@ -62,7 +255,35 @@ public class TaskList {
      * @return the size of the task list.
      */
     public int size() {
-        return tasks.size();
+        return size;
+    }
+
+    /**
+     * Returns the number of tasks in the list that are done.
+     *
+     * @return the number of done tasks.
+     */
+    public int countDone() {
+        return doneSlots.cardinality();
+    }
+
+    /**
+     * Returns the identifier that the next new task will be given.
+     *
+     * @return the next identifier.
+     */
+    public long getNextId() {
+        return nextId;
+    }
+
+    /**
+     * Ensures that identifiers below the given value are never given to new tasks,
+     * even if the tasks that held them have been deleted.
+     *
+     * @param nextId the lowest identifier that may be given to a new task.
+     */
+    public void reserveIdsBefore(long nextId) {
+        this.nextId = Math.max(this.nextId, nextId);
     }
 
     /**
@@ -72,7 +293,7 @@ public class TaskList {
      */
     public String convertToSaveFormat() {
         return String.join(System.lineSeparator(),
-                tasks.stream().map(Task::convertToSaveFormat).toList());
+                stream().map(Task::convertToSaveFormat).toList());
     }
 
     /**
@@ -81,13 +302,121 @@ public class TaskList {
      * @return a Stream of Task objects.
      */
     public Stream<Task> stream() {
-        return tasks.stream();
+        return store.stream(0, slotCount);
+    }
+
+    /**
+     * Returns a stream of the tasks in this list that are done, or that are not done.
+     *
+     * @param isDone whether to stream the done tasks rather than the undone ones.
+     * @return a Stream of Task objects, in list order.
+     */
+    public Stream<Task> stream(boolean isDone) {
+        return streamFrom(isDone, 0);
+    }
+
+    /**
+     * Returns a stream of the tasks in this list, starting from the task at the given index.
+     * Only the tasks that are consumed from the stream are read.
+     *
+     * @param index the index of the first task, which may be the size of the list.
+     * @return a Stream of Task objects, in list order.
+     */
+    public Stream<Task> streamFrom(int index) {
+        int fromSlot = index == size ? slotCount : toSlot(index);
+        return store.stream(fromSlot, slotCount);
+    }
+
+    /**
+     * Returns a stream of the tasks in this list that are done, or that are not done,
+     * starting from the matching task at the given index among them. The first task is
+     * found in logarithmic time, and only the tasks that are consumed from the stream are read.
+     *
+     * @param isDone whether to stream the done tasks rather than the undone ones.
+     * @param index the index of the first task among the matching tasks, which may be their count.
+     * @return a Stream of Task objects, in list order.
+     */
+    public Stream<Task> streamFrom(boolean isDone, int index) {
+        int matchingCount = isDone ? countDone() : size - countDone();
+        Objects.checkIndex(index, matchingCount + 1);
+        if (index == matchingCount) {
+            return Stream.empty();
+        }
+        int fromSlot = isDone ? doneCounts.findKth(index + 1) : liveSlots.findKthExcluding(doneCounts, index + 1);
+        IntStream matchingSlots = isDone
+                ? IntStream.iterate(fromSlot, slot -> slot >= 0, slot -> doneSlots.nextSetBit(slot + 1))
+                : IntStream.iterate(fromSlot, slot -> slot < slotCount, slot -> doneSlots.nextClearBit(slot + 1));
+        return matchingSlots.mapToObj(store::get).filter(Objects::nonNull);
     }
 
     /**
      * Clears all tasks from the list.
      */
     public void clear() {
-        tasks.clear();
+        store.clear(slotCount);
+        liveSlots = new FenwickTree(store.capacity(), 0);
+        doneSlots.clear();
+        doneCounts = new FenwickTree(store.capacity(), 0);
+        idIndex.clear();
+        indexes.clear();
+        tokenIndex = null;
+        trigramIndex = null;
+        timeIndex = null;
+        intervalIndex = null;
+        slotCount = 0;
+        size = 0;
+        nextId = 1;
+    }
+
+    /**
+     * Returns the slot holding the task at the given index.
+     */
+    private int toSlot(int index) {
+        Objects.checkIndex(index, size);
+        return size == slotCount ? index : liveSlots.findKth(index + 1);
+    }
+
+    /**
+     * Records whether the task in a slot is done, keeping the bit set and the count of done slots in step.
+     */
+    private void setDoneSlot(int slot, boolean isDone) {
+        if (doneSlots.get(slot) == isDone) {
+            return;
+        }
+        doneSlots.set(slot, isDone);
+        doneCounts.add(slot, isDone ? 1 : -1);
+    }
+
+    /**
+     * Frees a slot at the end, by compacting if at least half of the slots are empty
+     * and by growing the slots otherwise.
+     */
+    private void makeRoom() {
+        boolean isMostlyEmpty = (slotCount - size) * 2 >= slotCount;
+        compact(isMostlyEmpty ? store.capacity() : store.capacity() * 2);
+    }
+
+    /**
+     * Moves every task to the front of the slots, in order, then resizes the store to
+     * the given capacity.
+     */
+    private void compact(int capacity) {
+        BitSet compactedDoneSlots = new BitSet(capacity);
+        int next = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (store.isPresent(slot)) {
+                if (next != slot) {
+                    store.move(slot, next);
+                    idIndex.put(store.getId(next), next);
+                }
+                compactedDoneSlots.set(next, doneSlots.get(slot));
+                next++;
+            }
+        }
+        store.resize(capacity);
+        doneSlots = compactedDoneSlots;
+        slotCount = size;
+        liveSlots = new FenwickTree(capacity, size);
+        doneCounts = new FenwickTree(capacity, doneSlots);
     }
 }
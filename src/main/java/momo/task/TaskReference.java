@@ -0,0 +1,50 @@
+package momo.task;
+
+/**
+ * Refers to a task in a {@link TaskList}, either by its position or by its stable identifier.
+ *
+ * <p>A position changes whenever an earlier task is deleted, while an identifier
+ * always refers to the same task.</p>
+ */
+public class TaskReference {
+    private final int index;
+    private final long id;
+
+    private TaskReference(int index, long id) {
+        this.index = index;
+        this.id = id;
+    }
+
+    /**
+     * Returns a reference to the task at the given position.
+     *
+     * @param index the zero-based index of the task.
+     * @return the reference.
+     */
+    public static TaskReference ofIndex(int index) {
+        return new TaskReference(index, 0);
+    }
+
+    /**
+     * Returns a reference to the task with the given identifier.
+     *
+     * @param id the identifier of the task.
+     * @return the reference.
+     */
+    public static TaskReference ofId(long id) {
+        return new TaskReference(-1, id);
+    }
+
+    /**
+     * Returns the current index of the referenced task.
+     *
+     * @param tasks the task list to look the task up in.
+     * @return the zero-based index, or -1 if the task is not in the list.
+     */
+    public int resolve(TaskList tasks) {
+        if (id != 0) {
+            return tasks.indexOf(id);
+        }
+        return index >= 0 && index < tasks.size() ? index : -1;
+    }
+}
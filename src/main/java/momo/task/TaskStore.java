@@ -0,0 +1,103 @@
+package momo.task;
+
+import java.util.stream.Stream;
+
+/**
+ * Represents the slots that a {@link TaskList} keeps its tasks in.
+ *
+ * <p>A slot is either empty or holds one task. The task list decides which slot each task
+ * goes in, and only ever changes a task through the store, so a store is free to keep
+ * its tasks in any form and hand out {@link Task} objects on request.</p>
+ *
+ * <p>A task handed out by {@link #get(int)} or {@link #stream(int, int)} may be a copy,
+ * as it is for a {@link CompactTaskStore}. Changing it, for example by marking it as done,
+ * does not change the task in the store; such changes must go through
+ * {@link TaskList#markTask(int)}, {@link TaskList#unmarkTask(int)} and the other methods
+ * of the task list.</p>
+ */
+public interface TaskStore {
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity.
+     */
+    int capacity();
+
+    /**
+     * Changes the number of slots, keeping the tasks in the slots that remain.
+     *
+     * @param capacity the new number of slots.
+     */
+    void resize(int capacity);
+
+    /**
+     * Puts a task into an empty slot.
+     *
+     * @param slot the slot.
+     * @param task the task, which must already have its identifier.
+     */
+    void put(int slot, Task task);
+
+    /**
+     * Returns the task in a slot, which may be a copy that does not write back to the store.
+     *
+     * @param slot the slot.
+     * @return the task, or {@code null} if the slot is empty.
+     */
+    Task get(int slot);
+
+    /**
+     * Returns whether a slot holds a task.
+     *
+     * @param slot the slot.
+     * @return {@code true} if the slot holds a task.
+     */
+    boolean isPresent(int slot);
+
+    /**
+     * Returns the identifier of the task in a slot that holds one.
+     *
+     * @param slot the slot.
+     * @return the identifier.
+     */
+    long getId(int slot);
+
+    /**
+     * Marks the task in a slot that holds one as done or not done.
+     *
+     * @param slot the slot.
+     * @param isDone whether the task is done.
+     */
+    void setDone(int slot, boolean isDone);
+
+    /**
+     * Empties a slot.
+     *
+     * @param slot the slot.
+     */
+    void remove(int slot);
+
+    /**
+     * Moves the task in one slot to an empty slot, leaving the first slot empty.
+     *
+     * @param fromSlot the slot holding the task.
+     * @param toSlot the empty slot.
+     */
+    void move(int fromSlot, int toSlot);
+
+    /**
+     * Empties every slot below the given one.
+     *
+     * @param slotCount the number of slots to empty.
+     */
+    void clear(int slotCount);
+
+    /**
+     * Returns a stream of the tasks in a range of slots, skipping the empty slots.
+     *
+     * @param fromSlot the first slot, inclusive.
+     * @param toSlot the last slot, exclusive.
+     * @return a Stream of Task objects, in slot order.
+     */
+    Stream<Task> stream(int fromSlot, int toSlot);
+}
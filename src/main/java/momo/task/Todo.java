@@ -1,5 +1,7 @@
 package momo.task;
 
+import java.nio.ByteBuffer;
+
 /**
  * Represents a todo task without any date/time constraints.
  * Extends {@link Task}.
@@ -25,6 +27,16 @@ public class Todo extends Task {
         super(description, isDone);
     }
 
+    /**
+     * Creates a new {@code Todo} task whose description is decoded only when first used.
+     *
+     * @param encodedDescription the UTF-8 bytes of the description.
+     * @param isDone whether the task is marked as done.
+     */
+    public Todo(ByteBuffer encodedDescription, boolean isDone) {
+        super(encodedDescription, isDone);
+    }
+
     /**
      * Returns a string representation of the todo task,
      * including its type, description, and completion status.
@@ -39,11 +51,11 @@ public class Todo extends Task {
     /**
      * Converts the todo task to a string format suitable for saving to disk.
      *
-     * @return a string in the format {@code "T | <status> | <description>"},
+     * @return a string in the format {@code "[#<id> | ]T | <status> | <description>"},
      *         where status is 1 if done, 0 if not done.
      */
     @Override
     public String convertToSaveFormat() {
-        return "T | " + super.convertToSaveFormat();
+        return getIdPrefix() + "T | " + super.convertToSaveFormat();
     }
 }
@@ -0,0 +1,206 @@
+package momo.task.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Holds a set of words arranged by edit distance, so the words close to a given word
+ * can be found without comparing it against every word in the set.
+ *
+ * <p>Each child of a node is filed under its Levenshtein distance from the node. By the
+ * triangle inequality, a word within distance {@code k} of the target can only be below
+ * children whose distance lies within {@code k} of the target's distance to the node,
+ * so every other subtree is skipped. Removed words are only marked as removed, because
+ * they still route searches to the words below them; the tree is rebuilt from the
+ * remaining words once removed words outnumber them.</p>
+ */
+class BkTree {
+    private static final int MIN_REBUILD_REMOVED = 1024;
+
+    private Node root;
+    private int liveCount;
+    private int removedCount;
+
+    /**
+     * Represents a word in the tree.
+     */
+    private static class Node {
+        final String word;
+        private boolean isRemoved;
+        private Node[] children = new Node[0];
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+
+    /**
+     * Represents a word found by a search and its distance from the target.
+     */
+    static class Match {
+        final String word;
+        final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * Adds a word, or restores it if it was removed.
+     *
+     * @param word the word to add.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            liveCount++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    node.isRemoved = false;
+                    removedCount--;
+                    liveCount++;
+                }
+                return;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                liveCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes a word if it is in the tree.
+     *
+     * @param word the word to remove.
+     */
+    void remove(String word) {
+        Node node = root;
+        while (node != null) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    node.isRemoved = true;
+                    removedCount++;
+                    liveCount--;
+                    rebuildIfSparse();
+                }
+                return;
+            }
+            node = node.getChild(distance);
+        }
+    }
+
+    /**
+     * Returns the words within the given edit distance of the target.
+     *
+     * @param target the word to compare against.
+     * @param maxDistance the largest edit distance to include.
+     * @return the matching words, in no particular order.
+     */
+    List<Match> search(String target, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        List<Node> pending = new ArrayList<>();
+        if (root != null) {
+            pending.add(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.remove(pending.size() - 1);
+            int distance = distance(target, node.word);
+            if (distance <= maxDistance && !node.isRemoved) {
+                matches.add(new Match(node.word, distance));
+            }
+            int last = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int i = Math.max(1, distance - maxDistance); i <= last; i++) {
+                if (node.children[i] != null) {
+                    pending.add(node.children[i]);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of words in the tree, not counting removed words.
+     *
+     * @return the number of words.
+     */
+    int size() {
+        return liveCount;
+    }
+
+    private void rebuildIfSparse() {
+        if (removedCount < MIN_REBUILD_REMOVED || removedCount <= liveCount) {
+            return;
+        }
+        List<String> words = new ArrayList<>(liveCount);
+        List<Node> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.remove(pending.size() - 1);
+            if (!node.isRemoved) {
+                words.add(node.word);
+            }
+            for (Node child : node.children) {
+                if (child != null) {
+                    pending.add(child);
+                }
+            }
+        }
+        root = null;
+        liveCount = 0;
+        removedCount = 0;
+        for (String word : words) {
+            add(word);
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words.
+     *
+     * @param first the first word.
+     * @param second the second word.
+     * @return the number of single-character edits needed to turn one word into the other.
+     */
+    static int distance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            char c = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (c == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
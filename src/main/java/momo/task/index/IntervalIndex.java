@@ -0,0 +1,210 @@
+package momo.task.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import momo.task.DateTimeCodec;
+import momo.task.Event;
+import momo.task.Task;
+
+/**
+ * Keeps the time spans of all events in an interval tree, so the events overlapping a
+ * span of time can be found without checking every event.
+ *
+ * <p>Events are ordered by start time in a treap, a binary search tree that stays
+ * balanced by giving each node a pseudo-random priority and keeping higher priorities
+ * above lower ones. Each node also records the latest end time in its subtree, so a
+ * search skips every subtree that ends before the span starts and, being ordered by
+ * start, every right subtree that starts after the span ends. Spans include their start
+ * but not their end, so an event ending at 10:00 does not overlap one starting at 10:00.</p>
+ */
+public class IntervalIndex implements TaskIndex {
+    private Node root;
+
+    /**
+     * Represents an event in the tree.
+     */
+    private static class Node {
+        final long from;
+        final long to;
+        final long id;
+        final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(long from, long to, long id) {
+            this.from = from;
+            this.to = to;
+            this.id = id;
+            this.priority = Long.hashCode(id * 0x9E3779B97F4A7C15L);
+            this.maxEnd = to;
+        }
+
+        /**
+         * Returns whether this node comes before an event with the given start and identifier.
+         */
+        boolean isBefore(long otherFrom, long otherId) {
+            return from < otherFrom || (from == otherFrom && id < otherId);
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        if (task instanceof Event) {
+            Event event = (Event) task;
+            root = insert(root, new Node(DateTimeCodec.toEpochMinute(event.getFrom()),
+                    DateTimeCodec.toEpochMinute(event.getTo()), task.getId()));
+        }
+    }
+
+    @Override
+    public void remove(Task task) {
+        if (task instanceof Event) {
+            root = delete(root, DateTimeCodec.toEpochMinute(((Event) task).getFrom()), task.getId());
+        }
+    }
+
+    /**
+     * Returns the identifiers of the events that overlap the given span.
+     *
+     * @param fromMinute the start of the span as an epoch minute, inclusive.
+     * @param toMinute the end of the span as an epoch minute, exclusive.
+     * @return the identifiers, ordered by start time.
+     */
+    public long[] findOverlapping(long fromMinute, long toMinute) {
+        List<Node> nodes = new ArrayList<>();
+        collectOverlapping(root, fromMinute, toMinute, nodes);
+        long[] ids = new long[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nodes.get(i).id;
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the gaps between events within the given span that last at least the given duration.
+     *
+     * @param fromMinute the start of the span as an epoch minute, inclusive.
+     * @param toMinute the end of the span as an epoch minute, exclusive.
+     * @param minDuration the shortest gap to include, in minutes.
+     * @return the start and end epoch minute of each gap, in order of time.
+     */
+    public List<long[]> findFreeSlots(long fromMinute, long toMinute, long minDuration) {
+        List<Node> nodes = new ArrayList<>();
+        collectOverlapping(root, fromMinute, toMinute, nodes);
+        List<long[]> slots = new ArrayList<>();
+        long freeFrom = fromMinute;
+        for (Node node : nodes) {
+            if (node.from - freeFrom >= minDuration) {
+                slots.add(new long[] {freeFrom, node.from});
+            }
+            freeFrom = Math.max(freeFrom, node.to);
+        }
+        if (toMinute - freeFrom >= minDuration) {
+            slots.add(new long[] {freeFrom, toMinute});
+        }
+        return slots;
+    }
+
+    /**
+     * Adds the nodes in the subtree that overlap the span to the list, in order of start time.
+     */
+    private static void collectOverlapping(Node node, long fromMinute, long toMinute, List<Node> nodes) {
+        if (node == null || node.maxEnd <= fromMinute) {
+            return;
+        }
+        collectOverlapping(node.left, fromMinute, toMinute, nodes);
+        if (node.from < toMinute) {
+            if (node.to > fromMinute) {
+                nodes.add(node);
+            }
+            collectOverlapping(node.right, fromMinute, toMinute, nodes);
+        }
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.isBefore(node.from, node.id)) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node delete(Node node, long from, long id) {
+        if (node == null) {
+            return null;
+        }
+        if (node.from == from && node.id == id) {
+            return merge(node.left, node.right);
+        }
+        if (node.isBefore(from, id)) {
+            node.right = delete(node.right, from, id);
+        } else {
+            node.left = delete(node.left, from, id);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Joins two subtrees, where every node of the first comes before every node of the second.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            update(first);
+            return first;
+        }
+        second.left = merge(first, second.left);
+        update(second);
+        return second;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        update(node);
+        left.right = node;
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        update(node);
+        right.left = node;
+        return right;
+    }
+
+    /**
+     * Recomputes the latest end time in the subtree of the node from its children.
+     */
+    private static void update(Node node) {
+        long maxEnd = node.to;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+}
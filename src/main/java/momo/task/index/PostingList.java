@@ -0,0 +1,145 @@
+package momo.task.index;
+
+import java.util.Arrays;
+
+/**
+ * Holds a sorted set of task identifiers in a growable primitive array.
+ *
+ * <p>Identifiers are handed out in increasing order, so adding a new task is almost
+ * always an append.</p>
+ */
+class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int OBJECT_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds an identifier, keeping the list sorted. Does nothing if it is already present.
+     *
+     * @param id the task identifier.
+     */
+    void add(long id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            insert(-position - 1, id);
+            return;
+        }
+        insert(size, id);
+    }
+
+    private void insert(int position, long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+    }
+
+    /**
+     * Removes an identifier if it is present.
+     *
+     * @param id the task identifier.
+     */
+    void remove(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Returns whether the list holds the given identifier.
+     *
+     * @param id the task identifier.
+     * @return {@code true} if the identifier is present.
+     */
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Keeps only the candidates that are also in this list.
+     * Both are sorted, so the search for each candidate gallops forward from where the
+     * previous one was found, which costs little whether the candidates are few or many.
+     *
+     * @param candidates the sorted candidates, filtered in place.
+     * @param count the number of candidates at the start of the array.
+     * @return the number of candidates kept.
+     */
+    int retainAll(long[] candidates, int count) {
+        int kept = 0;
+        int low = 0;
+        for (int i = 0; i < count && low < size; i++) {
+            long id = candidates[i];
+            int step = 1;
+            int high = low;
+            while (high < size && ids[high] < id) {
+                low = high + 1;
+                high += step;
+                step *= 2;
+            }
+            int position = Arrays.binarySearch(ids, low, Math.min(high + 1, size), id);
+            if (position >= 0) {
+                candidates[kept++] = id;
+                low = position + 1;
+            } else {
+                low = -position - 1;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Returns whether the list holds no identifiers.
+     *
+     * @return {@code true} if the list is empty.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of identifiers in the list.
+     *
+     * @return the size of the list.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the identifiers in ascending order.
+     *
+     * @return the sorted identifiers.
+     */
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Copies the identifiers into the array at the given position.
+     *
+     * @param target the array to copy into.
+     * @param offset the position of the first copied identifier.
+     */
+    void copyInto(long[] target, int offset) {
+        System.arraycopy(ids, 0, target, offset, size);
+    }
+
+    /**
+     * Returns an estimate of the heap memory used by this list, including unused capacity.
+     *
+     * @return the estimated size in bytes.
+     */
+    long estimateMemoryBytes() {
+        return OBJECT_BYTES + ARRAY_HEADER_BYTES + (long) ids.length * Long.BYTES;
+    }
+}
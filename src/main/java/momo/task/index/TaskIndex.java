@@ -0,0 +1,25 @@
+package momo.task.index;
+
+import momo.task.Task;
+
+/**
+ * Represents a secondary index over the tasks in a {@link momo.task.TaskList}.
+ *
+ * <p>An index is built from the tasks in the list when it is first requested, and
+ * from then on is kept up to date by the list as tasks are added and deleted.</p>
+ */
+public interface TaskIndex {
+    /**
+     * Adds a task that was just added to the list.
+     *
+     * @param task the task that was added.
+     */
+    void add(Task task);
+
+    /**
+     * Removes a task that was just deleted from the list.
+     *
+     * @param task the task that was deleted.
+     */
+    void remove(Task task);
+}
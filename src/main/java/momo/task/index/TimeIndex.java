@@ -0,0 +1,70 @@
+package momo.task.index;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import momo.task.DateTimeCodec;
+import momo.task.Deadline;
+import momo.task.Task;
+
+/**
+ * Maps the due times of deadlines to the identifiers of the tasks, so the deadlines in
+ * a time range can be found without a full scan. Events are kept in an
+ * {@link IntervalIndex} instead, since they span a range of time themselves.
+ *
+ * <p>Times are kept as epoch minutes in a sorted map, so a range query costs a lookup
+ * for the start of the range plus one step per deadline in it.</p>
+ */
+public class TimeIndex implements TaskIndex {
+    private static final long[] NO_IDS = new long[0];
+
+    private final TreeMap<Long, PostingList> deadlines = new TreeMap<>();
+
+    @Override
+    public void add(Task task) {
+        if (task instanceof Deadline) {
+            long time = DateTimeCodec.toEpochMinute(((Deadline) task).getBy());
+            deadlines.computeIfAbsent(time, key -> new PostingList()).add(task.getId());
+        }
+    }
+
+    @Override
+    public void remove(Task task) {
+        if (!(task instanceof Deadline)) {
+            return;
+        }
+        long time = DateTimeCodec.toEpochMinute(((Deadline) task).getBy());
+        PostingList postingList = deadlines.get(time);
+        if (postingList != null) {
+            postingList.remove(task.getId());
+            if (postingList.isEmpty()) {
+                deadlines.remove(time);
+            }
+        }
+    }
+
+    /**
+     * Returns the identifiers of the deadlines due within the given range.
+     *
+     * @param fromMinute the start of the range as an epoch minute, inclusive.
+     * @param toMinute the end of the range as an epoch minute, inclusive.
+     * @return the identifiers, ordered by due time.
+     */
+    public long[] findDeadlines(long fromMinute, long toMinute) {
+        if (fromMinute > toMinute) {
+            return NO_IDS;
+        }
+        NavigableMap<Long, PostingList> range = deadlines.subMap(fromMinute, true, toMinute, true);
+        int total = 0;
+        for (PostingList postingList : range.values()) {
+            total += postingList.size();
+        }
+        long[] ids = new long[total];
+        int offset = 0;
+        for (PostingList postingList : range.values()) {
+            postingList.copyInto(ids, offset);
+            offset += postingList.size();
+        }
+        return ids;
+    }
+}
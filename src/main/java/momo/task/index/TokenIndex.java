@@ -0,0 +1,259 @@
+package momo.task.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import momo.task.Task;
+
+/**
+ * Maps every word in the task descriptions to the identifiers of the tasks that contain it.
+ *
+ * <p>Descriptions are split into words at every character that is not a letter or digit,
+ * and words are compared ignoring case. The words are kept in sorted order, so all words
+ * starting with a prefix can be found without scanning the whole vocabulary. Each word
+ * maps to a sorted {@link PostingList}, so a search only touches the tasks that contain
+ * the words being searched for. The words are also kept in a {@link BkTree}, so words
+ * similar to a misspelt word can be found without checking the whole vocabulary.</p>
+ */
+public class TokenIndex implements TaskIndex {
+    private static final long[] NO_IDS = new long[0];
+
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final BkTree vocabulary = new BkTree();
+
+    /**
+     * Splits text into lower-case words.
+     *
+     * @param text the text to split.
+     * @return the words in the order they appear, including repeated words.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public void add(Task task) {
+        long id = task.getId();
+        for (String token : tokenize(task.getDescription())) {
+            PostingList postingList = postings.get(token);
+            if (postingList == null) {
+                postingList = new PostingList();
+                postings.put(token, postingList);
+                vocabulary.add(token);
+            }
+            postingList.add(id);
+        }
+    }
+
+    @Override
+    public void remove(Task task) {
+        long id = task.getId();
+        for (String token : tokenize(task.getDescription())) {
+            PostingList postingList = postings.get(token);
+            if (postingList != null) {
+                postingList.remove(id);
+                if (postingList.isEmpty()) {
+                    postings.remove(token);
+                    vocabulary.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     *
+     * @return the vocabulary size.
+     */
+    public int getTokenCount() {
+        return postings.size();
+    }
+
+    /**
+     * Returns the identifiers of the tasks that contain the given word.
+     *
+     * @param token the lower-case word.
+     * @return the identifiers in ascending order.
+     */
+    public long[] find(String token) {
+        PostingList postingList = postings.get(token);
+        return postingList == null ? NO_IDS : postingList.toArray();
+    }
+
+    /**
+     * Returns the identifiers of the tasks that contain a word starting with the given prefix.
+     *
+     * @param prefix the lower-case prefix.
+     * @return the identifiers in ascending order.
+     */
+    public long[] findPrefix(String prefix) {
+        NavigableMap<String, PostingList> matches = prefix.isEmpty()
+                ? postings
+                : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        int total = 0;
+        for (PostingList postingList : matches.values()) {
+            total += postingList.size();
+        }
+        long[] ids = new long[total];
+        int offset = 0;
+        for (PostingList postingList : matches.values()) {
+            postingList.copyInto(ids, offset);
+            offset += postingList.size();
+        }
+        return sortDistinct(ids, total);
+    }
+
+    /**
+     * Returns the identifiers of the tasks that contain a word within the given edit
+     * distance of the target word, grouped by the distance of their closest word.
+     *
+     * @param word the lower-case word to compare against.
+     * @param maxDistance the largest edit distance to include.
+     * @return for each distance from 0 to {@code maxDistance}, the identifiers in ascending
+     *         order of the tasks whose closest word is at that distance.
+     */
+    public List<long[]> findSimilar(String word, int maxDistance) {
+        List<List<PostingList>> byDistance = new ArrayList<>();
+        for (int distance = 0; distance <= maxDistance; distance++) {
+            byDistance.add(new ArrayList<>());
+        }
+        for (BkTree.Match match : vocabulary.search(word, maxDistance)) {
+            byDistance.get(match.distance).add(postings.get(match.word));
+        }
+
+        List<long[]> result = new ArrayList<>();
+        long[] closer = NO_IDS;
+        for (List<PostingList> postingLists : byDistance) {
+            long[] ids = NO_IDS;
+            for (PostingList postingList : postingLists) {
+                ids = union(ids, postingList.toArray());
+            }
+            result.add(difference(ids, closer));
+            closer = union(closer, ids);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the identifiers of the tasks that match the query.
+     *
+     * @param query the query to evaluate.
+     * @return the identifiers in ascending order.
+     */
+    public long[] search(TokenQuery query) {
+        long[] result = NO_IDS;
+        for (List<TokenQuery.Term> terms : query.getGroups()) {
+            long[] matches = searchAll(terms);
+            result = result.length == 0 ? matches : union(result, matches);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the identifiers of the tasks that match every term.
+     * The term with the fewest matches is materialized, and every other term is only
+     * probed for the identifiers that remain.
+     */
+    private long[] searchAll(List<TokenQuery.Term> terms) {
+        List<PostingList> exactTerms = new ArrayList<>();
+        List<long[]> prefixTerms = new ArrayList<>();
+        for (TokenQuery.Term term : terms) {
+            if (term.isPrefix) {
+                prefixTerms.add(findPrefix(term.token));
+                continue;
+            }
+            PostingList postingList = postings.get(term.token);
+            if (postingList == null) {
+                return NO_IDS;
+            }
+            exactTerms.add(postingList);
+        }
+
+        long[] candidates = null;
+        for (long[] ids : prefixTerms) {
+            if (candidates == null || ids.length < candidates.length) {
+                candidates = ids;
+            }
+        }
+        PostingList smallest = null;
+        for (PostingList postingList : exactTerms) {
+            if (smallest == null || postingList.size() < smallest.size()) {
+                smallest = postingList;
+            }
+        }
+        if (candidates == null || (smallest != null && smallest.size() < candidates.length)) {
+            candidates = smallest.toArray();
+        }
+
+        int count = 0;
+        for (long id : candidates) {
+            if (containsInAll(id, exactTerms, prefixTerms)) {
+                candidates[count++] = id;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private static boolean containsInAll(long id, List<PostingList> exactTerms, List<long[]> prefixTerms) {
+        for (PostingList postingList : exactTerms) {
+            if (!postingList.contains(id)) {
+                return false;
+            }
+        }
+        for (long[] ids : prefixTerms) {
+            if (Arrays.binarySearch(ids, id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] union(long[] first, long[] second) {
+        long[] ids = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, ids, first.length, second.length);
+        return sortDistinct(ids, ids.length);
+    }
+
+    /**
+     * Returns the identifiers in {@code ids} that are not in {@code excluded}.
+     */
+    private static long[] difference(long[] ids, long[] excluded) {
+        int count = 0;
+        long[] kept = new long[ids.length];
+        for (long id : ids) {
+            if (Arrays.binarySearch(excluded, id) < 0) {
+                kept[count++] = id;
+            }
+        }
+        return Arrays.copyOf(kept, count);
+    }
+
+    /**
+     * Sorts the first {@code length} identifiers and removes duplicates.
+     */
+    private static long[] sortDistinct(long[] ids, int length) {
+        Arrays.sort(ids, 0, length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (count == 0 || ids[count - 1] != ids[i]) {
+                ids[count++] = ids[i];
+            }
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+}
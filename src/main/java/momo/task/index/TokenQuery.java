@@ -0,0 +1,87 @@
+package momo.task.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a search for tasks by the words in their descriptions.
+ *
+ * <p>A query is made of terms joined by {@code AND} and {@code OR}, where {@code AND}
+ * binds more tightly, so {@code a AND b OR c} finds tasks containing both {@code a} and
+ * {@code b}, or containing {@code c}. A term ending in {@code *} matches any word that
+ * starts with it. Terms are matched against whole words, ignoring case.</p>
+ */
+public class TokenQuery {
+    private static final String AND = " AND ";
+    private static final String OR = " OR ";
+    private static final String PREFIX_MARKER = "*";
+
+    /** The alternatives of the query, each holding terms that must all match. */
+    private final List<List<Term>> groups;
+
+    /**
+     * Represents a single word to match, either exactly or as a prefix.
+     */
+    static class Term {
+        final String token;
+        final boolean isPrefix;
+
+        Term(String token, boolean isPrefix) {
+            this.token = token;
+            this.isPrefix = isPrefix;
+        }
+    }
+
+    private TokenQuery(List<List<Term>> groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * Parses a query.
+     *
+     * @param keyword the query entered by the user.
+     * @return the parsed query.
+     */
+    public static TokenQuery parse(String keyword) {
+        List<List<Term>> groups = new ArrayList<>();
+        for (String alternative : keyword.split(OR)) {
+            List<Term> terms = new ArrayList<>();
+            for (String word : alternative.split(AND)) {
+                addTerms(word.trim(), terms);
+            }
+            if (!terms.isEmpty()) {
+                groups.add(terms);
+            }
+        }
+        return new TokenQuery(groups);
+    }
+
+    /**
+     * Adds the terms for one word of the query. A word that contains separators,
+     * such as {@code e-mail}, requires each of its parts.
+     */
+    private static void addTerms(String word, List<Term> terms) {
+        boolean isPrefix = word.endsWith(PREFIX_MARKER);
+        String text = isPrefix ? word.substring(0, word.length() - PREFIX_MARKER.length()) : word;
+        List<String> tokens = TokenIndex.tokenize(text);
+        if (tokens.isEmpty()) {
+            if (isPrefix) {
+                terms.add(new Term("", true));
+            }
+            return;
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            terms.add(new Term(tokens.get(i), isPrefix && i == tokens.size() - 1));
+        }
+    }
+
+    /**
+     * Returns the alternatives of the query.
+     *
+     * @return the groups of terms, of which at least one group must match completely.
+     */
+    List<List<Term>> getGroups() {
+        return Collections.unmodifiableList(groups);
+    }
+}
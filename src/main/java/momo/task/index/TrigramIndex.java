@@ -0,0 +1,121 @@
+package momo.task.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import momo.task.Task;
+
+/**
+ * Maps every run of three consecutive characters in the task descriptions to the
+ * identifiers of the tasks that contain it.
+ *
+ * <p>A description can only contain a keyword if it contains every trigram of the
+ * keyword, so intersecting their posting lists gives a small set of candidates that
+ * still has to be checked with {@link String#contains}. Characters are compared exactly,
+ * matching the case-sensitive substring search of the {@code find} command.</p>
+ */
+public class TrigramIndex implements TaskIndex {
+    /** The length of the shortest keyword the index can narrow down. */
+    public static final int GRAM_LENGTH = 3;
+
+    private static final long[] NO_IDS = new long[0];
+    private static final int MAP_ENTRY_BYTES = 48;
+    private static final int KEY_BYTES = 16;
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    @Override
+    public void add(Task task) {
+        long id = task.getId();
+        for (long gram : getGrams(task.getDescription())) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+    }
+
+    @Override
+    public void remove(Task task) {
+        long id = task.getId();
+        for (long gram : getGrams(task.getDescription())) {
+            PostingList postingList = postings.get(gram);
+            if (postingList != null) {
+                postingList.remove(id);
+                if (postingList.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the identifiers of the tasks whose descriptions may contain the keyword.
+     * Every task that does contain it is included, but some candidates may not.
+     *
+     * @param keyword the keyword, at least {@link #GRAM_LENGTH} characters long.
+     * @return the candidate identifiers in ascending order.
+     */
+    public long[] findCandidates(String keyword) {
+        assert keyword.length() >= GRAM_LENGTH : "Keyword must be at least " + GRAM_LENGTH + " characters";
+
+        List<PostingList> postingLists = new ArrayList<>();
+        for (long gram : getGrams(keyword)) {
+            PostingList postingList = postings.get(gram);
+            if (postingList == null) {
+                return NO_IDS;
+            }
+            postingLists.add(postingList);
+        }
+        postingLists.sort((first, second) -> Integer.compare(first.size(), second.size()));
+
+        long[] candidates = postingLists.get(0).toArray();
+        int count = candidates.length;
+        for (int i = 1; i < postingLists.size() && count > 0; i++) {
+            count = postingLists.get(i).retainAll(candidates, count);
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Returns the number of distinct trigrams in the index.
+     *
+     * @return the number of trigrams.
+     */
+    public int getGramCount() {
+        return postings.size();
+    }
+
+    /**
+     * Returns an estimate of the heap memory used by the index.
+     * The estimate assumes compressed object pointers, as on a typical 64-bit JVM.
+     *
+     * @return the estimated size in bytes.
+     */
+    public long estimateMemoryBytes() {
+        long bytes = 0;
+        for (PostingList postingList : postings.values()) {
+            bytes += MAP_ENTRY_BYTES + KEY_BYTES + postingList.estimateMemoryBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the distinct trigrams of the text, each packed into a {@code long}.
+     */
+    private static long[] getGrams(String text) {
+        int count = Math.max(0, text.length() - GRAM_LENGTH + 1);
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || grams[distinct - 1] != grams[i]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+}
@@ -1,5 +1,7 @@
 package momo.ui;
 
+import java.util.List;
+
 import momo.task.Task;
 import momo.task.TaskList;
 
@@ -22,6 +24,9 @@ public class Ui {
             + "What can I do for you today?\n\n"
             + "Type 'help' to see the list of available commands.\n";
 
+    /** Number of failed lines listed in the summary of a batch. */
+    private static final int MAX_LISTED_ERRORS = 20;
+
     /** Farewell message displayed when exiting the application. */
     private static final String MESSAGE_BYE = "Bye. Hope to see you again soon!";
 
@@ -42,16 +47,23 @@ public class Ui {
      */
     public String getHelpMessage() {
         return "Here are the available commands:\n"
-                + "1.list                  - Show all tasks\n"
+                + "1.list [done|undone] [page] [size] - Show tasks, a page at a time\n"
                 + "2.todo <description>    - Add a todo task\n"
                 + "3.deadline <description> /by <yyyy-MM-dd HHmm> - Add a deadline\n"
                 + "4.event <description> /from <yyyy-MM-dd HHmm> /to <yyyy-MM-dd HHmm> - Add an event\n"
-                + "5.mark <task number>    - Mark a task as done\n"
-                + "6.unmark <task number>  - Mark a task as not done\n"
-                + "7.delete <task number>  - Delete a task\n"
-                + "8.find <keyword>        - Find tasks containing the keyword\n"
-                + "9.help                  - Show this help message\n"
-                + "10.bye                  - Exit the application";
+                + "5.mark <task number>    - Mark a task as done (or mark #<id>)\n"
+                + "6.unmark <task number>  - Mark a task as not done (or unmark #<id>)\n"
+                + "7.delete <task number>  - Delete a task (or delete #<id>)\n"
+                + "8.find <keyword>        - Find tasks by keyword (or -q words with AND, OR, prefix*; ~word)\n"
+                + "9.due <yyyy-MM-dd> <yyyy-MM-dd> - List deadlines due between two dates\n"
+                + "10.agenda <yyyy-MM-dd>  - List deadlines and events on a date\n"
+                + "11.free <yyyy-MM-dd> <minutes> - Find free slots between events on a date\n"
+                + "12.stats                - Show how many tasks are done\n"
+                + "13.export               - Export all tasks to data/momo.txt\n"
+                + "14.run <file>           - Run the commands in a file, one per line\n"
+                + "15.metrics              - Show how long commands and saves have taken\n"
+                + "16.help                 - Show this help message\n"
+                + "17.bye                  - Exit the application";
     }
 
     /**
@@ -90,7 +102,7 @@ public class Ui {
      * @return the message confirming task addition as a string.
      */
     public String getAddTaskMessage(Task task, TaskList tasks) {
-        return "Got it. I've added this task:\n" + space(space(task.toString()))
+        return "Got it. I've added this task (#" + task.getId() + "):\n" + space(space(task.toString()))
                 + "\nNow you have " + tasks.size() + " tasks in the list.";
     }
 
@@ -105,4 +117,44 @@ public class Ui {
         return "Noted. I've removed this task:\n" + space(space(task.toString()))
                 + "\nNow you have " + tasks.size() + " tasks in the list.";
     }
+
+    /**
+     * Returns a warning listing the events that a newly added event overlaps.
+     *
+     * @param tasks the overlapping events.
+     * @return the warning as a string.
+     */
+    public String getOverlapWarning(List<Task> tasks) {
+        StringBuilder warning = new StringBuilder("Heads up! It overlaps with:");
+        for (Task task : tasks) {
+            warning.append("\n").append(space(space(task.toString())));
+        }
+        return warning.toString();
+    }
+
+    /**
+     * Returns a summary of a batch of commands, listing the first lines that failed.
+     *
+     * @param source the name of the input the commands were read from.
+     * @param commandCount the number of commands run.
+     * @param nanos the time taken to run the commands, in nanoseconds.
+     * @param errors the error of each failed line, prefixed with its line number.
+     * @return the summary as a string.
+     */
+    public String getBatchSummary(String source, int commandCount, long nanos, List<String> errors) {
+        long commandsPerSecond = commandCount * 1_000_000_000L / Math.max(1, nanos);
+        StringBuilder summary = new StringBuilder("Done! I've run " + commandCount + " commands from " + source
+                + " in " + nanos / 1_000_000 + " ms (" + commandsPerSecond + " commands per second).");
+        if (errors.isEmpty()) {
+            return summary.toString();
+        }
+        summary.append("\n").append(errors.size()).append(" of them failed:");
+        for (String error : errors.subList(0, Math.min(errors.size(), MAX_LISTED_ERRORS))) {
+            summary.append("\n").append(space(space(error)));
+        }
+        if (errors.size() > MAX_LISTED_ERRORS) {
+            summary.append("\n  ...and ").append(errors.size() - MAX_LISTED_ERRORS).append(" more.");
+        }
+        return summary.toString();
+    }
 }
@@ -0,0 +1,63 @@
+package momo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link CommandRunner} class.
+ */
+public class CommandRunnerTest {
+
+    /**
+     * Tests that responses are delivered in the order the inputs were submitted.
+     */
+    @Test
+    public void submit_manyInputs_respondsInOrder() {
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        List<String> expected = new ArrayList<>();
+        try (CommandRunner runner = new CommandRunner(input -> new Response(input, "EchoCommand", false),
+                Runnable::run)) {
+            for (int i = 0; i < 200; i++) {
+                expected.add("input " + i);
+                runner.submit("input " + i, response -> handled.add(response.getText()));
+            }
+        }
+        assertEquals(expected, handled);
+    }
+
+    /**
+     * Tests that inputs submitted after one that exits are not handled.
+     */
+    @Test
+    public void submit_afterExit_ignored() {
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        try (CommandRunner runner = new CommandRunner(input -> new Response(input, "Command", input.equals("bye")),
+                Runnable::run)) {
+            runner.submit("list", response -> handled.add(response.getText()));
+            runner.submit("bye", response -> handled.add(response.getText()));
+            runner.submit("list", response -> handled.add(response.getText()));
+        }
+        assertEquals(List.of("list", "bye"), handled);
+    }
+
+    /**
+     * Tests that an unexpected failure is delivered as an error response.
+     */
+    @Test
+    public void submit_handlerThrows_errorResponse() {
+        List<Response> handled = Collections.synchronizedList(new ArrayList<>());
+        try (CommandRunner runner = new CommandRunner(input -> {
+            throw new IllegalStateException("disk unavailable");
+        }, Runnable::run)) {
+            runner.submit("list", handled::add);
+        }
+        assertEquals(1, handled.size());
+        assertEquals("Error", handled.get(0).getCommandType());
+        assertEquals("Something went wrong: disk unavailable", handled.get(0).getText());
+    }
+}
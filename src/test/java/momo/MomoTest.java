@@ -0,0 +1,72 @@
+package momo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import momo.exception.MomoException;
+import momo.storage.Storage;
+import momo.task.CompactTaskStore;
+import momo.task.ObjectTaskStore;
+
+/**
+ * Unit tests for the {@link Momo} class.
+ */
+public class MomoTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Restores the default task store after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(Momo.STORE_PROPERTY);
+    }
+
+    /**
+     * Tests that the store named by the system property is used, and that "auto" keeps a
+     * short list as objects.
+     */
+    @Test
+    public void createTaskStore_storeName_selectsStore() {
+        Storage storage = new Storage(directory);
+        assertInstanceOf(CompactTaskStore.class, Momo.createTaskStore(Momo.COMPACT_STORE, storage));
+        assertInstanceOf(ObjectTaskStore.class, Momo.createTaskStore(Momo.OBJECT_STORE, storage));
+        assertInstanceOf(ObjectTaskStore.class, Momo.createTaskStore(Momo.AUTO_STORE, storage));
+    }
+
+    /**
+     * Tests that changes made while tasks are kept in a compact store are saved, and are
+     * loaded again into an object store.
+     */
+    @Test
+    public void handle_compactStore_changesPersisted() throws MomoException {
+        System.setProperty(Momo.STORE_PROPERTY, Momo.COMPACT_STORE);
+        Momo momo = new Momo(directory);
+        momo.handle("todo read book");
+        momo.handle("deadline return book /by 2025-09-25 2359");
+        momo.handle("event book fair /from 2025-09-26 1000 /to 2025-09-26 1800");
+        momo.handle("mark 1");
+        momo.handle("mark 3");
+        momo.handle("unmark 3");
+        momo.handle("delete 2");
+        momo.handle("todo buy gift");
+        momo.handle("mark 3");
+        String expected = momo.handle("list").getText();
+        momo.close();
+
+        System.setProperty(Momo.STORE_PROPERTY, Momo.OBJECT_STORE);
+        Momo reloaded = new Momo(directory);
+        assertEquals(expected, reloaded.handle("list").getText());
+        reloaded.close();
+        assertTrue(expected.startsWith("Here are the tasks in your list:\n1.[T][X] read book\n2.[E][ ] book fair"));
+        assertTrue(expected.endsWith("\n3.[T][X] buy gift"));
+    }
+}
@@ -0,0 +1,70 @@
+package momo.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import momo.Momo;
+import momo.exception.MomoException;
+
+/**
+ * Unit tests for the {@link Cli} class.
+ */
+public class CliTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Runs the commands through a new {@link Cli} over the temporary directory, then closes it.
+     */
+    private String run(String input) throws IOException, MomoException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        Momo momo = new Momo(directory);
+        new Cli(momo).run(new BufferedReader(new StringReader(input)), out, false);
+        momo.close();
+        return bytes.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+
+    /**
+     * Tests that reading stops at the "bye" command.
+     */
+    @Test
+    public void run_byeCommand_stopsReading() throws IOException, MomoException {
+        String output = run("todo read book\n\nbye\ntodo buy gift\n");
+        assertEquals("Got it. I've added this task (#1):\n  [T][ ] read book\nNow you have 1 tasks in the list.\n"
+                + "Bye. Hope to see you again soon!\n", output);
+    }
+
+    /**
+     * Tests that changes are saved when the input ends without the "bye" command.
+     */
+    @Test
+    public void run_endOfInput_changesSaved() throws IOException, MomoException {
+        run("todo read book\nmark 1\n");
+        assertEquals("Here are the tasks in your list:\n1.[T][X] read book\n", run("list\n"));
+    }
+
+    /**
+     * Tests that an unknown option returns the usage error status before anything is loaded.
+     */
+    @Test
+    public void launch_unknownOption_returnsUsageError() {
+        PrintStream err = System.err;
+        System.setErr(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        try {
+            assertEquals(2, Cli.launch(new String[] {Cli.FLAG, "--verbose"}));
+        } finally {
+            System.setErr(err);
+        }
+    }
+}
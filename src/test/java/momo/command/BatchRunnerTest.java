@@ -0,0 +1,61 @@
+package momo.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import momo.exception.MomoException;
+import momo.storage.Storage;
+import momo.task.TaskList;
+import momo.ui.Ui;
+
+/**
+ * Unit tests for the {@link BatchRunner} class.
+ */
+public class BatchRunnerTest {
+    @TempDir
+    Path directory;
+
+    private String run(TaskList tasks, String input) throws IOException, MomoException {
+        BatchRunner runner = new BatchRunner(tasks, new Ui(), new Storage(directory), 2);
+        return runner.run(new BufferedReader(new StringReader(input)), "test");
+    }
+
+    /**
+     * Tests that failed lines are listed with their line numbers without stopping the batch.
+     */
+    @Test
+    public void run_failedLines_listedAndSkipped() throws IOException, MomoException {
+        TaskList tasks = new TaskList();
+        String summary = run(tasks, "todo read book\ntodo\n\nmark 5\nrun other.txt\ntodo buy gift\n");
+        assertEquals(2, tasks.size());
+        assertTrue(summary.startsWith("Done! I've run 5 commands from test in "), summary);
+        assertTrue(summary.contains("\n3 of them failed:\n  Line 2: Nani?!? The description of the todo is empty!\n"
+                + "  Line 4: Nani?!? The task number provided is invalid!\n"
+                + "  Line 5: Nani?!? A script cannot run another script!"), summary);
+    }
+
+    /**
+     * Tests that the batch ends at a "bye" line and that its changes are saved.
+     */
+    @Test
+    public void run_byeLine_stopsAndSaves() throws IOException, MomoException {
+        TaskList tasks = new TaskList();
+        run(tasks, "todo read book\ntodo return book\ntodo pay fine\nmark 1\nbye\ntodo buy gift\n");
+        assertEquals(3, tasks.size());
+
+        TaskList loaded = new TaskList();
+        Storage storage = new Storage(directory);
+        storage.load(loaded);
+        storage.close();
+        assertEquals(3, loaded.size());
+        assertTrue(loaded.getTask(0).isDone());
+    }
+}
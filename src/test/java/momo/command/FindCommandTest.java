@@ -0,0 +1,80 @@
+package momo.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import momo.exception.MomoException;
+import momo.parser.Parser;
+import momo.storage.Storage;
+import momo.task.TaskList;
+import momo.task.Todo;
+import momo.ui.Ui;
+
+/**
+ * Unit tests for the {@link FindCommand} class.
+ */
+public class FindCommandTest {
+    @TempDir
+    Path directory;
+
+    private TaskList tasks;
+
+    /**
+     * Creates a list whose descriptions contain the characters of the query syntax.
+     */
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        tasks.addTask(new Todo("practise rock AND roll"));
+        tasks.addTask(new Todo("rock climbing"));
+        tasks.addTask(new Todo("roll out C* notes"));
+        tasks.addTask(new Todo("Cats musical"));
+    }
+
+    private String find(String input) throws MomoException {
+        return Parser.parseToCommand(input).execute(tasks, new Ui(), new Storage(directory));
+    }
+
+    /**
+     * Tests that a plain keyword containing AND is matched as a substring, not as a query.
+     */
+    @Test
+    public void execute_plainKeywordWithAnd_matchesSubstring() throws MomoException {
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] practise rock AND roll",
+                find("find rock AND roll"));
+    }
+
+    /**
+     * Tests that a plain keyword containing OR is matched as a substring, not as a query.
+     */
+    @Test
+    public void execute_plainKeywordWithOr_matchesSubstring() throws MomoException {
+        assertEquals("Here are the matching tasks in your list:\n", find("find rock OR roll"));
+    }
+
+    /**
+     * Tests that a plain keyword ending in * is matched as a substring, not as a prefix.
+     */
+    @Test
+    public void execute_plainKeywordWithStar_matchesSubstring() throws MomoException {
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] roll out C* notes", find("find C*"));
+    }
+
+    /**
+     * Tests that a keyword after the -q flag is answered as a query over whole words.
+     */
+    @Test
+    public void execute_queryFlag_matchesWords() throws MomoException {
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] practise rock AND roll",
+                find("find -q practise AND roll"));
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] practise rock AND roll\n"
+                + "2.[T][ ] rock climbing\n3.[T][ ] roll out C* notes", find("find -q rock OR roll"));
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] Cats musical",
+                find("find -q cat*"));
+    }
+}
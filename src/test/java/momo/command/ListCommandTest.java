@@ -0,0 +1,94 @@
+package momo.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import momo.exception.MomoException;
+import momo.parser.Parser;
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Unit tests for the {@link ListCommand} class.
+ */
+public class ListCommandTest {
+    private TaskList tasks;
+
+    /**
+     * Creates a list of 250 todos, where every third todo is done.
+     */
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        for (int i = 1; i <= 250; i++) {
+            tasks.addTask(new Todo("task " + i, i % 3 == 0));
+        }
+    }
+
+    private String render(ListCommand command) throws IOException {
+        StringBuilder out = new StringBuilder();
+        command.writeTo(tasks, out);
+        return out.toString();
+    }
+
+    /**
+     * Tests that a short list is written without a page summary, as before paging.
+     */
+    @Test
+    public void writeTo_shortList_noPageSummary() throws IOException {
+        TaskList shortList = new TaskList();
+        shortList.addTask(new Todo("read manga"));
+        shortList.addTask(new Todo("buy milk"));
+        StringBuilder out = new StringBuilder();
+        new ListCommand().writeTo(shortList, out);
+        assertEquals("Here are the tasks in your list:\n1.[T][ ] read manga\n2.[T][ ] buy milk", out.toString());
+    }
+
+    /**
+     * Tests that a later page continues the numbering and only holds the tasks of that page.
+     */
+    @Test
+    public void writeTo_secondPage_numberingContinues() throws IOException {
+        String output = render(new ListCommand(ListCommand.Filter.ALL, 2, 100));
+        String[] lines = output.split("\n");
+        assertEquals(102, lines.length);
+        assertEquals("101.[T][ ] task 101", lines[1]);
+        assertEquals("200.[T][ ] task 200", lines[100]);
+        assertEquals("Showing 101-200 of 250 (page 2 of 3). Type \"list 3\" to see more.", lines[101]);
+    }
+
+    /**
+     * Tests that a page of done tasks skips the tasks that are not done.
+     */
+    @Test
+    public void writeTo_donePage_onlyDoneTasks() throws IOException {
+        String output = render(new ListCommand(ListCommand.Filter.DONE, 2, 10));
+        String[] lines = output.split("\n");
+        assertEquals("Here are the done tasks in your list:", lines[0]);
+        assertEquals("11.[T][X] task 33", lines[1]);
+        assertEquals("Showing 11-20 of 83 (page 2 of 9). Type \"list done 3 10\" to see more.", lines[11]);
+    }
+
+    /**
+     * Tests that asking for a page past the end explains how many pages there are.
+     */
+    @Test
+    public void writeTo_pagePastEnd_pageCountShown() throws IOException {
+        assertTrue(render(new ListCommand(ListCommand.Filter.ALL, 4, 100)).contains("it only has 3 pages"));
+    }
+
+    /**
+     * Tests that a parsed "list" command with extra spaces between its arguments lists the
+     * same page as one built directly.
+     */
+    @Test
+    public void writeTo_parsedWithExtraSpaces_sameAsBuilt() throws IOException, MomoException {
+        ListCommand parsed = (ListCommand) Parser.parseToCommand("list  undone   2 50");
+        assertEquals(render(new ListCommand(ListCommand.Filter.UNDONE, 2, 50)), render(parsed));
+    }
+}
@@ -0,0 +1,54 @@
+package momo.gui;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import momo.CommandRunner;
+import momo.Momo;
+
+/**
+ * Unit tests for the {@link Main} class.
+ */
+public class MainTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Returns everything written to the journal segments in the temporary directory.
+     */
+    private String readJournal() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            StringBuilder journal = new StringBuilder();
+            for (Path file : files.filter(file -> file.getFileName().toString().startsWith("momo.journal"))
+                    .collect(Collectors.toList())) {
+                journal.append(Files.readString(file));
+            }
+            return journal.toString();
+        }
+    }
+
+    /**
+     * Tests that the commands submitted just before the window closes are on the disk as
+     * soon as {@link Main#stop()} returns, without waiting for the background writer.
+     */
+    @Test
+    public void stop_commandsSubmittedJustBefore_savedToDisk() throws IOException {
+        Momo momo = new Momo(directory);
+        CommandRunner commandRunner = new CommandRunner(momo::handle, Runnable::run);
+        Main main = new Main(momo, commandRunner);
+        for (int i = 0; i < 2000; i++) {
+            commandRunner.submit("todo read book " + i, response -> { });
+        }
+        main.stop();
+
+        assertTrue(readJournal().contains("read book 1999"));
+    }
+}
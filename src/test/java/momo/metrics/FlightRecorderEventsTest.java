@@ -0,0 +1,85 @@
+package momo.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import momo.Momo;
+import momo.exception.MomoException;
+
+/**
+ * Unit tests for the Java Flight Recorder events recorded while Momo handles commands.
+ */
+public class FlightRecorderEventsTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Handles the inputs while recording the given events, and returns the events recorded.
+     */
+    private List<RecordedEvent> record(String eventName, String... inputs) throws IOException, MomoException {
+        Path recordingPath = directory.resolve("momo.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            Momo momo = new Momo(directory.resolve("data"));
+            for (String input : inputs) {
+                momo.handle(input);
+            }
+            momo.flush();
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+        return RecordingFile.readAllEvents(recordingPath).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Tests that each parsed input records its command class, and that invalid input records none.
+     */
+    @Test
+    public void parse_validAndInvalidInput_recordsCommandClass() throws IOException, MomoException {
+        List<RecordedEvent> events = record("momo.Parse", "todo read book", "nonsense");
+        assertEquals(2, events.size());
+        assertEquals("momo.command.AddTodoCommand", events.get(0).getClass("commandClass").getName());
+        assertEquals("todo read book".length(), events.get(0).getInt("inputLength"));
+        assertNull(events.get(1).getClass("commandClass"));
+    }
+
+    /**
+     * Tests that each executed command records the number of tasks after it ran.
+     */
+    @Test
+    public void execute_addCommands_recordsTaskCount() throws IOException, MomoException {
+        List<RecordedEvent> events = record("momo.Execute", "todo read book", "todo buy gift", "delete 5");
+        assertEquals(3, events.size());
+        assertEquals(2, events.get(1).getInt("taskCount"));
+        assertFalse(events.get(1).getBoolean("isFailed"));
+        assertTrue(events.get(2).getBoolean("isFailed"));
+    }
+
+    /**
+     * Tests that writing to the journal records the bytes and records written.
+     */
+    @Test
+    public void persist_journalAppend_recordsBytesWritten() throws IOException, MomoException {
+        List<RecordedEvent> events = record("momo.Persist", "todo read book");
+        assertFalse(events.isEmpty());
+        assertEquals("Journal", events.get(0).getString("kind"));
+        assertTrue(events.get(0).getLong("bytesWritten") > 0);
+        assertEquals(1, events.get(0).getInt("recordCount"));
+    }
+}
@@ -0,0 +1,65 @@
+package momo.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link LatencyHistogram} class.
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * Tests that an empty histogram reports zero for every statistic.
+     */
+    @Test
+    public void getValueAtPercentile_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    /**
+     * Tests that percentiles are within 1/64 of the exact values over a wide range of durations.
+     */
+    @Test
+    public void getValueAtPercentile_wideRange_withinOnePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+        for (int percentile : new int[] {1, 50, 90, 99, 100}) {
+            long exact = percentile * 1_000L * 1_000;
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact && reported <= exact + exact / 64,
+                    "p" + percentile + " was " + reported + " instead of about " + exact);
+        }
+    }
+
+    /**
+     * Tests that the maximum and mean are exact, not rounded to a bucket.
+     */
+    @Test
+    public void getMax_recordedValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_003);
+        histogram.record(5);
+        assertEquals(1_000_003, histogram.getMax());
+        assertEquals(500_004, histogram.getMean());
+        assertEquals(1_000_003, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Tests that negative durations are counted as zero.
+     */
+    @Test
+    public void record_negative_countedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-10);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+}
@@ -0,0 +1,68 @@
+package momo.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the {@link Metrics} class.
+ */
+public class MetricsTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests that the report says so when nothing has been recorded.
+     */
+    @Test
+    public void report_nothingRecorded_showsNoneYet() {
+        String report = new Metrics().report();
+        assertTrue(report.contains("Commands:\n  none yet"));
+        assertTrue(report.contains("Writes:\n  none yet"));
+    }
+
+    /**
+     * Tests that the report lists each command and kind of write that was recorded.
+     */
+    @Test
+    public void report_recordedCommandsAndWrites_listed() {
+        Metrics metrics = new Metrics();
+        metrics.recordCommand("AddTodoCommand", 2_000, 40_000, 512);
+        metrics.recordCommand("AddTodoCommand", 2_000, 40_000, 1_536);
+        metrics.recordWrite("Journal", 3_000_000, 2_048);
+
+        String report = metrics.report();
+        assertTrue(report.contains("  AddTodoCommand: 2 calls, parse p50 2.0 us, execute p50 40.0 us"), report);
+        assertTrue(report.contains("1.0 KiB allocated per call"), report);
+        assertTrue(report.contains("  Journal: 1 writes, 2.0 KiB in total, p50 3.0 ms"), report);
+    }
+
+    /**
+     * Tests that stopping the periodic dump writes the report one last time, that stopping
+     * it again does nothing, and that it can then be started again.
+     */
+    @Test
+    public void stopPeriodicDump_started_writesReportOnceAndAllowsRestart() throws IOException {
+        Metrics metrics = new Metrics();
+        Path first = directory.resolve("first.txt");
+        metrics.startPeriodicDump(first, 3600);
+        assertFalse(Files.exists(first));
+        metrics.stopPeriodicDump();
+        assertTrue(Files.readString(first).contains("Commands:"));
+
+        Files.delete(first);
+        metrics.stopPeriodicDump();
+        assertFalse(Files.exists(first));
+
+        Path second = directory.resolve("second.txt");
+        metrics.startPeriodicDump(second, 3600);
+        metrics.stopPeriodicDump();
+        assertTrue(Files.exists(second));
+    }
+}
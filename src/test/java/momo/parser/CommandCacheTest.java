@@ -0,0 +1,50 @@
+package momo.parser;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import momo.command.Command;
+import momo.exception.MomoException;
+
+/**
+ * Unit tests for the {@link CommandCache} class.
+ */
+public class CommandCacheTest {
+
+    /**
+     * Tests that repeating an input returns the command parsed the first time.
+     */
+    @Test
+    public void parse_repeatedInput_sameCommand() throws MomoException {
+        CommandCache cache = new CommandCache(2);
+        Command command = cache.parse("list");
+        assertSame(command, cache.parse("list"));
+    }
+
+    /**
+     * Tests that the least recently used input is evicted once the cache is full.
+     */
+    @Test
+    public void parse_cacheFull_leastRecentlyUsedEvicted() throws MomoException {
+        CommandCache cache = new CommandCache(2);
+        Command list = cache.parse("list");
+        Command help = cache.parse("help");
+        cache.parse("list");
+        cache.parse("bye");
+        assertSame(list, cache.parse("list"));
+        assertNotSame(help, cache.parse("help"));
+    }
+
+    /**
+     * Tests that an invalid input is rejected every time it is entered.
+     */
+    @Test
+    public void parse_invalidInput_exceptionThrownEachTime() {
+        CommandCache cache = new CommandCache(2);
+        assertThrows(MomoException.class, () -> cache.parse("blah"));
+        assertThrows(MomoException.class, () -> cache.parse("blah"));
+    }
+}
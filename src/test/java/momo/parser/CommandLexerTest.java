@@ -0,0 +1,81 @@
+package momo.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link CommandLexer} class.
+ *
+ * <p>These tests verify that the lexer splits the input at the same places as
+ * {@link String#split(String, int)} did before it.</p>
+ */
+public class CommandLexerTest {
+    private static final String[] COMMAND_WORDS = {"deadline", "event", "mark"};
+
+    /**
+     * Tests that only a whole command word is matched.
+     */
+    @Test
+    public void matchCommand_prefixOfCommandWord_noMatch() {
+        assertEquals("mark", new CommandLexer("mark 2").matchCommand(COMMAND_WORDS));
+        assertEquals("", new CommandLexer("mar 2").matchCommand(COMMAND_WORDS));
+        assertEquals("", new CommandLexer("markdown").matchCommand(COMMAND_WORDS));
+        assertEquals("", new CommandLexer("").matchCommand(COMMAND_WORDS));
+    }
+
+    /**
+     * Tests that the argument starts after the first space, even if it is empty.
+     */
+    @Test
+    public void hasArgument_trailingSpace_emptyArgument() {
+        CommandLexer lexer = new CommandLexer("mark ");
+        assertTrue(lexer.hasArgument());
+        assertEquals("", lexer.getText(lexer.getArgumentStart(), lexer.getEnd()));
+        assertFalse(new CommandLexer("mark").hasArgument());
+    }
+
+    /**
+     * Tests that the first "/by" marker in the argument is used.
+     */
+    @Test
+    public void getByStart_twoMarkers_firstMarkerFound() {
+        CommandLexer lexer = new CommandLexer("deadline a /by b /by 2025-12-02 1800");
+        assertEquals("a", lexer.getText(lexer.getArgumentStart(), lexer.getByStart()));
+        assertEquals("b /by 2025-12-02 1800",
+                lexer.getText(lexer.getByStart() + CommandLexer.BY_MARKER.length(), lexer.getEnd()));
+    }
+
+    /**
+     * Tests that a "/by" marker directly after the command word is not part of the argument.
+     */
+    @Test
+    public void getByStart_markerBeforeArgument_notFound() {
+        assertEquals(CommandLexer.NOT_FOUND, new CommandLexer("deadline /by 2025-12-02 1800").getByStart());
+    }
+
+    /**
+     * Tests that a "/to" marker is only found after the "/from" marker.
+     */
+    @Test
+    public void getToStart_toBeforeFrom_ignored() {
+        CommandLexer lexer = new CommandLexer("event a /to b /from c /to d");
+        assertEquals("a /to b", lexer.getText(lexer.getArgumentStart(), lexer.getFromStart()));
+        assertEquals("c", lexer.getText(lexer.getFromStart() + CommandLexer.FROM_MARKER.length(),
+                lexer.getToStart()));
+        assertEquals(CommandLexer.NOT_FOUND, new CommandLexer("event a /from /to d").getToStart());
+    }
+
+    /**
+     * Tests that spaces are skipped up to the next word, or up to the end of the input.
+     */
+    @Test
+    public void skipSpaces_spacesBeforeWord_wordStartFound() {
+        CommandLexer lexer = new CommandLexer("list   done  ");
+        assertEquals(7, lexer.skipSpaces(lexer.getArgumentStart()));
+        assertEquals(7, lexer.skipSpaces(7));
+        assertEquals(lexer.getEnd(), lexer.skipSpaces(11));
+    }
+}
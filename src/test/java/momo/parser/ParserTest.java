@@ -15,11 +15,17 @@ import momo.command.AddEventCommand;
 import momo.command.AddTodoCommand;
 import momo.command.Command;
 import momo.command.DeleteCommand;
+import momo.command.DueCommand;
 import momo.command.ExitCommand;
+import momo.command.ExportCommand;
 import momo.command.FindCommand;
+import momo.command.FreeCommand;
+import momo.command.FuzzyFindCommand;
 import momo.command.HelpCommand;
 import momo.command.ListCommand;
 import momo.command.MarkCommand;
+import momo.command.MetricsCommand;
+import momo.command.RunCommand;
 import momo.command.UnmarkCommand;
 import momo.exception.MomoException;
 import momo.task.Deadline;
@@ -64,6 +70,53 @@ public class ParserTest {
         assertInstanceOf(ListCommand.class, command);
     }
 
+    /**
+     * Tests that "list done" is correctly parsed into a {@link ListCommand}.
+     */
+    @Test
+    public void parseToCommand_listDone_success() throws MomoException {
+        Command command = Parser.parseToCommand("list done");
+        assertInstanceOf(ListCommand.class, command);
+    }
+
+    /**
+     * Tests that a "list" command with an unknown filter throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_listUnknownFilter_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("list later"));
+        assertTrue(e.getMessage().contains("Tasks can only be listed by"));
+    }
+
+    /**
+     * Tests that a "list" command with more than a filter, a page and a size throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_listTooManyArguments_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("list done 1 2 3"));
+        assertTrue(e.getMessage().contains("The list command has too many arguments"));
+        e = assertThrows(MomoException.class, () -> Parser.parseToCommand("list 1 2 3"));
+        assertTrue(e.getMessage().contains("The list command has too many arguments"));
+    }
+
+    /**
+     * Tests that a "list" command with a page size that is not an integer throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_listInvalidPageSize_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("list done 2 many"));
+        assertTrue(e.getMessage().contains("The page number and size must be integers"));
+    }
+
+    /**
+     * Tests that the "export" command is correctly parsed into an {@link ExportCommand}.
+     */
+    @Test
+    public void parseToCommand_export_success() throws MomoException {
+        Command command = Parser.parseToCommand("export");
+        assertInstanceOf(ExportCommand.class, command);
+    }
+
     /**
      * Tests that a valid "todo" command is correctly parsed into {@link AddTodoCommand}.
      */
@@ -100,6 +153,105 @@ public class ParserTest {
         assertTrue(e.getMessage().contains("The keyword to find is missing"));
     }
 
+    /**
+     * Tests that a "find" command with the query flag but no query throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_findQueryFlagMissingQuery_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("find -q  "));
+        assertTrue(e.getMessage().contains("The query to find is missing"));
+    }
+
+    /**
+     * Tests that a "find" command with a keyword starting with ~ is parsed into {@link FuzzyFindCommand}.
+     */
+    @Test
+    public void parseToCommand_fuzzyFind_success() throws MomoException {
+        Command command = Parser.parseToCommand("find ~meting");
+        assertInstanceOf(FuzzyFindCommand.class, command);
+    }
+
+    /**
+     * Tests that a fuzzy "find" command with more than one word throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_fuzzyFindTwoWords_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("find ~team meting"));
+        assertTrue(e.getMessage().contains("A fuzzy search needs exactly one word"));
+    }
+
+    /**
+     * Tests that a valid "due" command is correctly parsed into {@link DueCommand}.
+     */
+    @Test
+    public void parseToCommand_due_success() throws MomoException {
+        Command command = Parser.parseToCommand("due 2025-09-22 2025-09-28");
+        assertInstanceOf(DueCommand.class, command);
+    }
+
+    /**
+     * Tests that a "due" command whose start date is after its end date throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_dueDatesReversed_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("due 2025-09-28 2025-09-22"));
+        assertTrue(e.getMessage().contains("The start date is after the end date"));
+    }
+
+    /**
+     * Tests that an "agenda" command with an invalid date throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_agendaInvalidDate_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("agenda 2025-02-30"));
+        assertTrue(e.getMessage().contains("The format of date entered is invalid"));
+    }
+
+    /**
+     * Tests that a valid "free" command is correctly parsed into {@link FreeCommand}.
+     */
+    @Test
+    public void parseToCommand_free_success() throws MomoException {
+        Command command = Parser.parseToCommand("free 2025-09-20 90");
+        assertInstanceOf(FreeCommand.class, command);
+    }
+
+    /**
+     * Tests that a "free" command with a duration that is not a number throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_freeInvalidDuration_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("free 2025-09-20 1h"));
+        assertTrue(e.getMessage().contains("The duration must be a number of minutes"));
+    }
+
+    /**
+     * Tests that a valid "run" command is correctly parsed into {@link RunCommand}.
+     */
+    @Test
+    public void parseToCommand_run_success() throws MomoException {
+        Command command = Parser.parseToCommand("run scripts/import tasks.txt");
+        assertInstanceOf(RunCommand.class, command);
+    }
+
+    /**
+     * Tests that a "metrics" command is correctly parsed into {@link MetricsCommand}.
+     */
+    @Test
+    public void parseToCommand_metrics_success() throws MomoException {
+        Command command = Parser.parseToCommand("metrics");
+        assertInstanceOf(MetricsCommand.class, command);
+    }
+
+    /**
+     * Tests that a "run" command without a file throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_runMissingFile_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("run"));
+        assertTrue(e.getMessage().contains("The file to run is missing!"));
+    }
+
     /**
      * Tests that a valid "deadline" command is correctly parsed into {@link AddDeadlineCommand}.
      */
@@ -226,6 +378,24 @@ public class ParserTest {
         assertInstanceOf(MarkCommand.class, command);
     }
 
+    /**
+     * Tests that a "mark" command with a task id is correctly parsed into {@link MarkCommand}.
+     */
+    @Test
+    public void parseToCommand_markTaskId_success() throws MomoException {
+        Command command = Parser.parseToCommand("mark #12");
+        assertInstanceOf(MarkCommand.class, command);
+    }
+
+    /**
+     * Tests that a "mark" command with a non-integer task id throws a {@link MomoException}.
+     */
+    @Test
+    public void parseToCommand_markTaskIdNotInteger_exceptionThrown() {
+        MomoException e = assertThrows(MomoException.class, () -> Parser.parseToCommand("mark #two"));
+        assertTrue(e.getMessage().contains("The task number provided is not an integer"));
+    }
+
     /**
      * Tests that a "mark" command with missing task number throws a {@link MomoException}.
      */
@@ -301,6 +471,16 @@ public class ParserTest {
         assertFalse(task.isDone());
     }
 
+    /**
+     * Tests that the id stored in front of a saved task string is restored.
+     */
+    @Test
+    public void parseToTask_withId_idRestored() throws MomoException {
+        Task task = Parser.parseToTask("#42 | T | 1 | read book");
+        assertEquals(42, task.getId());
+        assertEquals("#42 | T | 1 | read book", task.convertToSaveFormat());
+    }
+
     //CHECKSTYLE.OFF: SeparatorWrap
     /**
      * Tests that a saved "deadline" task string is correctly parsed into {@link Deadline}.
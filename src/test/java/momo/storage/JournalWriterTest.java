@@ -0,0 +1,191 @@
+package momo.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the {@link JournalWriter} class.
+ *
+ * <p>These tests verify that records whose write failed are kept and written
+ * again in order, and that callers never wait forever on the writer.</p>
+ */
+public class JournalWriterTest {
+    private static final int CAPACITY = 16;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * A journal whose appends throw the given error a set number of times before succeeding.
+     */
+    private static class FailingJournal extends Journal {
+        private final Error error;
+        private int failuresLeft;
+
+        private FailingJournal(Path directoryPath, int failures, Error error) {
+            super(directoryPath, Integer.MAX_VALUE, Long.MAX_VALUE);
+            this.failuresLeft = failures;
+            this.error = error;
+        }
+
+        @Override
+        boolean append(List<String> records) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                if (error != null) {
+                    throw error;
+                }
+                throw new IllegalStateException("disk went away");
+            }
+            return super.append(records);
+        }
+    }
+
+    /**
+     * A journal whose first append writes only the start of its first record before failing,
+     * and whose appends then fail for as long as {@code isFailing} is set.
+     */
+    private static class TornJournal extends Journal {
+        private final Path directoryPath;
+        private boolean isTorn;
+        private volatile boolean isFailing;
+
+        private TornJournal(Path directoryPath, boolean isFailing) {
+            super(directoryPath, Integer.MAX_VALUE, Long.MAX_VALUE);
+            this.directoryPath = directoryPath;
+            this.isFailing = isFailing;
+        }
+
+        @Override
+        boolean append(List<String> records) throws IOException {
+            if (!isTorn) {
+                isTorn = true;
+                Files.writeString(directoryPath.resolve(PREFIX + getSegment()), records.get(0).substring(0, 3),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                throw new IOException("disk full");
+            }
+            if (isFailing) {
+                throw new IOException("disk full");
+            }
+            return super.append(records);
+        }
+    }
+
+    private static JournalWriter createWriter(Path directoryPath, Journal journal) {
+        Compactor compactor = new Compactor(new Snapshots(directoryPath), journal);
+        return new JournalWriter(directoryPath, journal, compactor, CAPACITY);
+    }
+
+    private static List<String> readSegment(Path directoryPath) throws IOException {
+        return Files.readAllLines(directoryPath.resolve(Journal.PREFIX + 1));
+    }
+
+    /**
+     * Tests that records are kept when the directory cannot be created, that flush
+     * reports the failure, and that the records are written first once it can be.
+     */
+    @Test
+    public void flush_directoryUnwritable_reportsFailureThenWritesInOrder() throws IOException {
+        Path dataPath = directory.resolve("data");
+        Files.createFile(dataPath);
+        JournalWriter writer = createWriter(dataPath, new Journal(dataPath, Integer.MAX_VALUE, Long.MAX_VALUE));
+
+        writer.submit("first");
+        assertThrows(IOException.class, writer::flush);
+        writer.submit("second");
+        assertThrows(IOException.class, writer::seal);
+
+        Files.delete(dataPath);
+        writer.flush();
+        assertEquals(List.of("first", "second"), readSegment(dataPath));
+    }
+
+    /**
+     * Tests that a runtime exception thrown while appending fails the waiting caller
+     * instead of stopping the writer, and that the records are written on the next flush.
+     * The append fails twice, since the writer may already retry once before the flush.
+     */
+    @Test
+    public void flush_appendThrowsRuntimeException_reportsFailureThenRecovers() throws IOException {
+        JournalWriter writer = createWriter(directory, new FailingJournal(directory, 2, null));
+
+        writer.submit("first");
+        IOException exception = assertThrows(IOException.class, writer::flush);
+        assertEquals("1 changes could not be saved: disk went away", exception.getMessage());
+
+        writer.submit("second");
+        writer.flush();
+        assertEquals(List.of("first", "second"), readSegment(directory));
+    }
+
+    /**
+     * Tests that flush fails instead of waiting forever once the writer thread has stopped.
+     */
+    @Test
+    public void flush_writerThreadStopped_failsInsteadOfHanging() {
+        JournalWriter writer = createWriter(directory,
+                new FailingJournal(directory, 1, new AssertionError("writer thread stopped")));
+
+        writer.submit("first");
+        assertThrows(IllegalStateException.class, writer::flush);
+        assertThrows(IllegalStateException.class, writer::flush);
+    }
+
+    /**
+     * Tests that the start of a record left behind by a failed append is removed before
+     * the records are written again, so the segment holds each record once and whole.
+     */
+    @Test
+    public void flush_appendTornPartWay_rewritesRecordsWhole() throws IOException {
+        TornJournal journal = new TornJournal(directory, true);
+        JournalWriter writer = createWriter(directory, journal);
+
+        writer.submit("first");
+        assertThrows(IOException.class, writer::flush);
+        journal.isFailing = false;
+        writer.submit("second");
+        writer.flush();
+        assertEquals(List.of("first", "second"), readSegment(directory));
+    }
+
+    /**
+     * Tests that while appends keep failing, the writer stops taking records once a queue's
+     * worth is unwritten, so producers block, and that flush fails instead of waiting.
+     */
+    @Test
+    public void submit_appendsKeepFailing_blocksProducerThenWritesInOrder() throws Exception {
+        TornJournal journal = new TornJournal(directory, true);
+        JournalWriter writer = createWriter(directory, journal);
+        int count = CAPACITY * 3;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                writer.submit("record " + i);
+            }
+        });
+        producer.start();
+
+        producer.join(3000);
+        assertTrue(producer.isAlive());
+        assertThrows(IOException.class, writer::flush);
+
+        journal.isFailing = false;
+        producer.join(10_000);
+        writer.flush();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            expected.add("record " + i);
+        }
+        assertEquals(expected, readSegment(directory));
+    }
+}
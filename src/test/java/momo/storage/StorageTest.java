@@ -0,0 +1,295 @@
+package momo.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import momo.exception.MomoException;
+import momo.task.Deadline;
+import momo.task.Event;
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Unit tests for the {@link Storage} class.
+ *
+ * <p>These tests verify that changes recorded in the journal are replayed
+ * on top of the saved tasks when loading, and that compaction folds the
+ * journal into a snapshot without losing changes.</p>
+ */
+public class StorageTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Adds a todo to both the task list and the storage journal.
+     */
+    private static void addTodo(TaskList tasks, Storage storage, String description) {
+        Task task = new Todo(description);
+        tasks.addTask(task);
+        storage.saveAdd(task);
+    }
+
+    /**
+     * Loads the saved tasks with a new storage, then waits for the compaction that loading
+     * may start, so no file is still being written when the directory is removed.
+     */
+    private TaskList reload() throws IOException {
+        Storage storage = new Storage(directory);
+        TaskList loaded = new TaskList();
+        storage.load(loaded);
+        storage.awaitCompaction();
+        return loaded;
+    }
+
+    /**
+     * Tests that every kind of journal record is replayed in order when loading.
+     */
+    @Test
+    public void load_journalOnly_replaysAllRecords() throws IOException, MomoException {
+        Storage storage = new Storage(directory);
+        TaskList tasks = new TaskList();
+        addTodo(tasks, storage, "read book");
+        addTodo(tasks, storage, "return book");
+        addTodo(tasks, storage, "buy gift");
+        tasks.markTask(1);
+        storage.saveMark(tasks.getTask(1));
+        tasks.markTask(2);
+        storage.saveMark(tasks.getTask(2));
+        tasks.unmarkTask(2);
+        storage.saveUnmark(tasks.getTask(2));
+        storage.saveDelete(tasks.deleteTask(0));
+        storage.flush();
+
+        TaskList loaded = reload();
+        assertEquals(tasks.convertToSaveFormat(), loaded.convertToSaveFormat());
+    }
+
+    /**
+     * Tests that journal records are applied on top of the saved tasks.
+     */
+    @Test
+    public void load_snapshotAndJournal_replaysOnTopOfSnapshot() throws IOException, MomoException {
+        Storage storage = new Storage(directory);
+        TaskList tasks = new TaskList();
+        addTodo(tasks, storage, "read book");
+        storage.save(tasks);
+        addTodo(tasks, storage, "return book");
+        tasks.markTask(0);
+        storage.saveMark(tasks.getTask(0));
+        storage.flush();
+
+        TaskList loaded = reload();
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.getTask(0).isDone());
+        assertFalse(loaded.getTask(1).isDone());
+    }
+
+    /**
+     * Tests that a partially written last record does not discard earlier changes.
+     */
+    @Test
+    public void load_tornLastRecord_keepsEarlierRecords() throws IOException, MomoException {
+        Storage storage = new Storage(directory);
+        TaskList tasks = new TaskList();
+        addTodo(tasks, storage, "read book");
+        storage.flush();
+        Files.writeString(directory.resolve("momo.journal.1"), "MAR", StandardOpenOption.APPEND);
+
+        TaskList loaded = reload();
+        assertEquals(1, loaded.size());
+        assertEquals("read book", loaded.getTask(0).getDescription());
+    }
+
+    /**
+     * Tests that replaying stops at a corrupt record in the middle of the journal, that the
+     * records from there on are set aside instead of being applied or compacted away, and
+     * that the records before it and changes made afterwards are loaded again.
+     */
+    @Test
+    public void load_corruptRecordBeforeLaterSegment_setsAsideRestOfJournal() throws IOException, MomoException {
+        Files.createDirectories(directory);
+        String first = Journal.toAddRecord(new Todo("read book"));
+        List<String> firstSegment = List.of(first, "MAR", Journal.toAddRecord(new Todo("return book")));
+        Files.write(directory.resolve("momo.journal.1"), firstSegment);
+        Files.write(directory.resolve("momo.journal.2"), List.of(Journal.toAddRecord(new Todo("buy gift"))));
+
+        Storage storage = new Storage(directory);
+        TaskList tasks = new TaskList();
+        storage.load(tasks);
+        assertEquals(1, tasks.size());
+        addTodo(tasks, storage, "wrap gift");
+        storage.close();
+
+        assertEquals(List.of(first), Files.readAllLines(directory.resolve("momo.journal.1")));
+        assertEquals(firstSegment, Files.readAllLines(directory.resolve("momo.quarantine.journal.1")));
+        assertTrue(Files.exists(directory.resolve("momo.quarantine.journal.2")));
+        assertFalse(Files.exists(directory.resolve("momo.journal.2")));
+        assertTrue(Snapshots.listSequences(directory, "momo.snapshot.").isEmpty());
+
+        TaskList loaded = reload();
+        assertEquals(tasks.convertToSaveFormat(), loaded.convertToSaveFormat());
+    }
+
+    /**
+     * Tests that a record referring to a task by its index instead of its id is treated
+     * as corrupt rather than applied.
+     */
+    @Test
+    public void load_recordWithoutId_setAsideAsCorrupt() throws IOException {
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("momo.journal.1"),
+                List.of(Journal.toAddRecord(new Todo("read book")), "MARK | 0"));
+
+        TaskList loaded = reload();
+        assertEquals(1, loaded.size());
+        assertFalse(loaded.getTask(0).isDone());
+        assertTrue(Files.exists(directory.resolve("momo.quarantine.journal.1")));
+    }
+
+    /**
+     * Tests that reaching the record threshold folds the journal into a snapshot
+     * and that the result loads the same tasks.
+     */
+    @Test
+    public void append_recordThresholdReached_journalCompacted() throws IOException, MomoException {
+        Storage storage = new Storage(directory, 3, Long.MAX_VALUE);
+        TaskList tasks = new TaskList();
+        storage.load(tasks);
+        for (int i = 0; i < 7; i++) {
+            addTodo(tasks, storage, "task " + i);
+        }
+        tasks.markTask(4);
+        storage.saveMark(tasks.getTask(4));
+        storage.awaitCompaction();
+
+        assertFalse(Snapshots.listSequences(directory, "momo.snapshot.").isEmpty());
+        assertFalse(Files.exists(directory.resolve("momo.journal.1")));
+
+        TaskList loaded = reload();
+        assertEquals(tasks.convertToSaveFormat(), loaded.convertToSaveFormat());
+    }
+
+    /**
+     * Tests that a snapshot left behind next to the segments it already covers,
+     * as after a crash during compaction, does not cause changes to be applied twice.
+     */
+    @Test
+    public void load_staleSegmentsAfterSnapshot_notReplayedTwice() throws IOException, MomoException {
+        Storage storage = new Storage(directory, 2, Long.MAX_VALUE);
+        TaskList tasks = new TaskList();
+        storage.load(tasks);
+        addTodo(tasks, storage, "read book");
+        storage.flush();
+        byte[] staleSegment = Files.readAllBytes(directory.resolve("momo.journal.1"));
+        addTodo(tasks, storage, "return book");
+        storage.awaitCompaction();
+        Files.write(directory.resolve("momo.journal.1"), staleSegment);
+
+        TaskList loaded = reload();
+        assertEquals(2, loaded.size());
+    }
+
+    /**
+     * Tests that a burst of changes larger than the write queue is saved in full
+     * once the storage is flushed.
+     */
+    @Test
+    public void flush_burstOfChanges_allChangesSaved() throws IOException, MomoException {
+        Storage storage = new Storage(directory);
+        TaskList tasks = new TaskList();
+        storage.load(tasks);
+        for (int i = 0; i < 10_000; i++) {
+            addTodo(tasks, storage, "task " + i);
+        }
+        storage.flush();
+
+        TaskList loaded = reload();
+        assertEquals(10_000, loaded.size());
+        assertEquals("task 9999", loaded.getTask(9_999).getDescription());
+    }
+
+    /**
+     * Tests that every task type survives a round trip through the binary snapshot format.
+     */
+    @Test
+    public void save_binarySnapshot_roundTripsAllTaskTypes() throws IOException {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("read book", true));
+        tasks.addTask(new Deadline("return caf\u00e9 book", LocalDateTime.of(2025, 12, 2, 18, 0), false));
+        tasks.addTask(new Event("meeting", LocalDateTime.of(1969, 7, 20, 20, 17),
+                LocalDateTime.of(1969, 7, 21, 2, 56), true));
+        Storage storage = new Storage(directory);
+        storage.save(tasks);
+
+        TaskList loaded = reload();
+        assertEquals(tasks.convertToSaveFormat(), loaded.convertToSaveFormat());
+    }
+
+    /**
+     * Tests that exported tasks are imported from the text file when no snapshot exists.
+     */
+    @Test
+    public void exportText_noSnapshot_importedOnLoad() throws IOException, MomoException {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("read book", false));
+        tasks.addTask(new Deadline("return book", LocalDateTime.of(2025, 12, 2, 18, 0), true));
+        Path filePath = new Storage(directory).exportText(tasks);
+        assertEquals("#1 | T | 0 | read book" + System.lineSeparator()
+                + "#2 | D | 1 | return book | 2025-12-02 1800",
+                Files.readString(filePath));
+
+        TaskList loaded = reload();
+        assertEquals(tasks.convertToSaveFormat(), loaded.convertToSaveFormat());
+    }
+
+    /**
+     * Tests that a malformed line in the text file is quarantined instead of discarding every task.
+     */
+    @Test
+    public void load_malformedTextLine_keepsOtherTasks() throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("momo.txt"), "T | 0 | read book\nnot a task\nT | 1 | return book\n");
+
+        TaskList loaded = reload();
+        assertEquals(2, loaded.size());
+        assertTrue(Files.readString(directory.resolve("momo.quarantine.txt")).startsWith("Line 2: not a task"));
+    }
+
+    /**
+     * Tests that task ids survive a snapshot and journal replay, and that the id of a
+     * deleted task is not given to a new task after reloading.
+     */
+    @Test
+    public void load_snapshotAndJournal_keepsTaskIds() throws IOException, MomoException {
+        Storage storage = new Storage(directory);
+        TaskList tasks = new TaskList();
+        addTodo(tasks, storage, "read book");
+        addTodo(tasks, storage, "return book");
+        addTodo(tasks, storage, "buy gift");
+        storage.save(tasks);
+        storage.saveDelete(tasks.deleteTask(2));
+        storage.saveDelete(tasks.deleteTask(0));
+        tasks.markTask(0);
+        storage.saveMark(tasks.getTask(0));
+        storage.flush();
+
+        TaskList loaded = reload();
+        assertEquals(1, loaded.size());
+        assertEquals(2, loaded.getTask(0).getId());
+        assertTrue(loaded.getTaskById(2).isDone());
+        loaded.addTask(new Todo("wrap gift"));
+        assertEquals(4, loaded.getTask(1).getId());
+    }
+}
@@ -0,0 +1,75 @@
+package momo.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import momo.task.TaskList;
+
+/**
+ * Unit tests for the {@link TextTaskLoader} class.
+ *
+ * <p>These tests use a tiny chunk size so that even small files are split
+ * across many chunks that are parsed in parallel.</p>
+ */
+public class TextTaskLoaderTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests that tasks spread across many chunks are loaded in their original order.
+     */
+    @Test
+    public void load_manyChunks_preservesOrder() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            lines.add("T | " + (i % 2) + " | task " + i);
+        }
+        Path filePath = directory.resolve("momo.txt");
+        Files.write(filePath, lines);
+
+        TaskList tasks = new TaskList();
+        List<String> quarantined = new TextTaskLoader(ForkJoinPool.commonPool(), 64).load(filePath, tasks);
+
+        assertEquals(List.of(), quarantined);
+        assertEquals(500, tasks.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals("task " + i, tasks.getTask(i).getDescription());
+            assertEquals(i % 2 == 1, tasks.getTask(i).isDone());
+        }
+    }
+
+    /**
+     * Tests that malformed lines are quarantined with their line numbers and the other lines are kept.
+     */
+    @Test
+    public void load_malformedLines_quarantinesOnlyThoseLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            lines.add(i == 37 || i == 80 ? "X | 0 | broken " + i : "T | 0 | task " + i);
+        }
+        lines.add("");
+        lines.add("D | 0 | missing date");
+        Path filePath = directory.resolve("momo.txt");
+        Files.write(filePath, lines);
+
+        TaskList tasks = new TaskList();
+        List<String> quarantined = new TextTaskLoader(ForkJoinPool.commonPool(), 50).load(filePath, tasks);
+
+        assertEquals(98, tasks.size());
+        assertEquals("task 38", tasks.getTask(37).getDescription());
+        assertEquals(3, quarantined.size());
+        assertTrue(quarantined.get(0).startsWith("Line 38: X | 0 | broken 37"));
+        assertTrue(quarantined.get(1).startsWith("Line 81: X | 0 | broken 80"));
+        assertTrue(quarantined.get(2).startsWith("Line 102: D | 0 | missing date"));
+    }
+}
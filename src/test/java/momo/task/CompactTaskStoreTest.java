@@ -0,0 +1,125 @@
+package momo.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for a {@link TaskList} backed by a {@link CompactTaskStore}.
+ */
+public class CompactTaskStoreTest {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 9, 1, 14, 30);
+
+    private TaskList tasks;
+
+    /**
+     * Initializes a new {@link TaskList} with a compact store before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList(new CompactTaskStore());
+    }
+
+    /**
+     * Tests that every type of task comes back with the same fields it was added with.
+     */
+    @Test
+    public void getTask_eachType_sameFields() {
+        tasks.addTask(new Todo("read book", false));
+        tasks.addTask(new Deadline("submit r\u00e9sum\u00e9", START, true));
+        tasks.addTask(new Event("\u9879\u76ee meeting", START, START.plusHours(2), false));
+
+        assertInstanceOf(Todo.class, tasks.getTask(0));
+        assertEquals("[T][ ] read book", tasks.getTask(0).toString());
+        assertEquals("#2 | D | 1 | submit r\u00e9sum\u00e9 | 2025-09-01 1430", tasks.getTask(1).convertToSaveFormat());
+        Event event = (Event) tasks.getTaskById(3);
+        assertEquals("\u9879\u76ee meeting", event.getDescription());
+        assertEquals(START, event.getFrom());
+        assertEquals(START.plusHours(2), event.getTo());
+    }
+
+    /**
+     * Tests that marking and unmarking a task is seen by the tasks built afterwards.
+     */
+    @Test
+    public void markAndUnmarkTask_updatesState() {
+        tasks.addTask(new Deadline("submit report", START, false));
+        tasks.markTask(0);
+        assertTrue(tasks.getTask(0).isDone());
+        assertEquals(1, tasks.countDone());
+        tasks.unmarkTask(0);
+        assertFalse(tasks.getTask(0).isDone());
+        assertEquals("[D][ ] submit report (by: Sep 1 2025, 2:30PM)", tasks.getTask(0).toString());
+    }
+
+    /**
+     * Tests that a task built before its description was moved to a new arena keeps its description.
+     */
+    @Test
+    public void getTask_afterArenaIsCopied_keepsDescription() {
+        tasks.addTask(new Todo("keep me", false));
+        Task kept = tasks.getTask(0);
+        for (int i = 0; i < 1000; i++) {
+            tasks.addTask(new Todo("a long description that fills the arena " + i, false));
+            tasks.deleteTask(1);
+        }
+        assertEquals("keep me", kept.getDescription());
+        assertEquals("keep me", tasks.getTask(0).getDescription());
+        assertEquals(1, tasks.size());
+    }
+
+    /**
+     * Tests that the compact store keeps the same tasks as the default store through
+     * many random additions, deletions, marks and unmarks, including compactions.
+     */
+    @Test
+    public void randomOperations_matchesObjectStore() {
+        TaskList expected = new TaskList();
+        Random random = new Random(2103);
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(6);
+            if (expected.size() == 0 || operation < 2) {
+                LocalDateTime from = START.plusMinutes(random.nextInt(100_000));
+                Task task;
+                if (i % 3 == 0) {
+                    task = new Todo("task " + i, random.nextBoolean());
+                } else if (i % 3 == 1) {
+                    task = new Deadline("task " + i, from, random.nextBoolean());
+                } else {
+                    task = new Event("task " + i, from, from.plusMinutes(90), random.nextBoolean());
+                }
+                expected.addTask(task);
+                tasks.addTask(task);
+            } else {
+                int index = random.nextInt(expected.size());
+                if (operation < 4) {
+                    assertEquals(expected.deleteTask(index).convertToSaveFormat(),
+                            tasks.deleteTask(index).convertToSaveFormat());
+                } else if (operation == 4) {
+                    expected.markTask(index);
+                    tasks.markTask(index);
+                } else {
+                    expected.unmarkTask(index);
+                    tasks.unmarkTask(index);
+                }
+            }
+            if (i % 1000 == 0) {
+                assertEquals(expected.convertToSaveFormat(), tasks.convertToSaveFormat());
+            }
+        }
+        assertEquals(expected.convertToSaveFormat(), tasks.convertToSaveFormat());
+        assertEquals(expected.countDone(), tasks.countDone());
+        assertEquals(expected.stream(false).map(Task::toString).toList(),
+                tasks.stream(false).map(Task::toString).toList());
+        long id = expected.getTask(expected.size() / 2).getId();
+        assertEquals(expected.indexOf(id), tasks.indexOf(id));
+        assertEquals(expected.getTaskById(id).toString(), tasks.getTaskById(id).toString());
+    }
+}
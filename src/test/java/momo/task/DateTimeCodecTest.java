@@ -0,0 +1,98 @@
+package momo.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link DateTimeCodec} class.
+ *
+ * <p>Every result is compared against {@link DateTimeFormatter} with the same pattern,
+ * which the codec must behave exactly like.</p>
+ */
+public class DateTimeCodecTest {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    /**
+     * Parses the text with both the codec and the formatter and checks that they agree,
+     * including on whether the text is rejected.
+     */
+    private static void assertParsesLikeFormatter(String text) {
+        LocalDateTime expected;
+        try {
+            expected = LocalDateTime.parse(text, FORMATTER);
+        } catch (DateTimeParseException e) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parse(text), text);
+            return;
+        }
+        assertEquals(expected, DateTimeCodec.parse(text), text);
+    }
+
+    /**
+     * Tests that random dates and times are printed and parsed exactly as the formatter does.
+     */
+    @Test
+    public void formatAndParse_randomDateTimes_matchFormatter() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 20_000; i++) {
+            LocalDateTime dateTime = LocalDateTime.of(1 + random.nextInt(9999), 1 + random.nextInt(12),
+                    1 + random.nextInt(28), random.nextInt(24), random.nextInt(60));
+            String text = DateTimeCodec.format(dateTime);
+            assertEquals(dateTime.format(FORMATTER), text);
+            assertEquals(dateTime, DateTimeCodec.parse(text));
+        }
+    }
+
+    /**
+     * Tests that values outside the fixed-width fast path are handled exactly as the formatter does.
+     */
+    @Test
+    public void parse_edgeCases_matchFormatter() {
+        String[] texts = {
+            "2024-02-29 2359", "2025-02-29 1200", "2025-04-31 0000", "2025-02-32 0000", "2025-13-01 0000",
+            "2025-00-10 0000", "2025-01-01 2400", "2025-01-01 2360", "0000-01-01 0000", "0001-01-01 0000",
+            "9999-12-31 2359", "+10000-01-01 0000", "10000-01-01 0000", "2025-1-01 0000", "2025-01-01 900",
+            "2025/01/01 0000", "2025-01-01T0000", "2025-01-0a 0000", "", "Monday 12pm"
+        };
+        for (String text : texts) {
+            assertParsesLikeFormatter(text);
+        }
+    }
+
+    /**
+     * Tests that years that do not fit in four digits are printed as the formatter does.
+     */
+    @Test
+    public void format_yearsOutsideFourDigits_matchFormatter() {
+        LocalDateTime[] dateTimes = {
+            LocalDateTime.of(10000, 1, 1, 0, 0), LocalDateTime.of(0, 6, 15, 12, 30), LocalDateTime.of(-5, 1, 1, 0, 0)
+        };
+        for (LocalDateTime dateTime : dateTimes) {
+            assertEquals(dateTime.format(FORMATTER), DateTimeCodec.format(dateTime));
+        }
+    }
+
+    /**
+     * Tests that a part of a longer text can be parsed in place.
+     */
+    @Test
+    public void parse_range_parsesOnlyThatRange() {
+        String text = "by 2025-12-02 1800!";
+        assertEquals(LocalDateTime.of(2025, 12, 2, 18, 0), DateTimeCodec.parse(text, 3, 18));
+    }
+
+    /**
+     * Tests that epoch minutes round trip, including before the epoch.
+     */
+    @Test
+    public void epochMinute_roundTrip_success() {
+        LocalDateTime dateTime = LocalDateTime.of(1969, 7, 20, 20, 17);
+        assertEquals(dateTime, DateTimeCodec.fromEpochMinute(DateTimeCodec.toEpochMinute(dateTime)));
+    }
+}
@@ -0,0 +1,38 @@
+package momo.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link TaskIdIndex} class.
+ */
+public class TaskIdIndexTest {
+
+    /**
+     * Tests that the index agrees with a {@link HashMap} through random insertions and removals.
+     */
+    @Test
+    public void putAndRemove_randomOperations_matchesHashMap() {
+        TaskIdIndex index = new TaskIdIndex();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(2103);
+        for (int i = 0; i < 50_000; i++) {
+            long id = 1 + random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                index.put(id, i);
+                expected.put(id, i);
+            } else {
+                index.remove(id);
+                expected.remove(id);
+            }
+        }
+        for (long id = 1; id <= 2_000; id++) {
+            assertEquals((int) expected.getOrDefault(id, TaskIdIndex.MISSING), index.get(id));
+        }
+    }
+}
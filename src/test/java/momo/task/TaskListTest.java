@@ -2,8 +2,14 @@ package momo.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -76,13 +82,14 @@ public class TaskListTest {
 
     /**
      * Tests that {@link TaskList#convertToSaveFormat()} returns a string containing
-     * all tasks in the correct save format, joined by line separators.
+     * all tasks in the correct save format, with their identifiers, joined by line separators.
      */
     @Test
     public void convertToSaveFormat_returnsJoinedString() {
         tasks.addTask(new Todo("read manga", false));
         tasks.addTask(new Todo("watch anime", true));
-        String expected = String.join(System.lineSeparator(), "T | 0 | read manga", "T | 1 | watch anime");
+        String expected = String.join(System.lineSeparator(), "#1 | T | 0 | read manga",
+                "#2 | T | 1 | watch anime");
         assertEquals(expected, tasks.convertToSaveFormat());
     }
 
@@ -96,4 +103,119 @@ public class TaskListTest {
         tasks.clear();
         assertEquals(0, tasks.size());
     }
+
+    /**
+     * Tests that identifiers are kept when other tasks are deleted and are not reused.
+     */
+    @Test
+    public void deleteTask_otherTasksKeepIds() {
+        tasks.addTask(new Todo("read book", false));
+        tasks.addTask(new Todo("return book", false));
+        tasks.addTask(new Todo("buy gift", false));
+        tasks.deleteTask(0);
+        tasks.deleteTask(1);
+        tasks.addTask(new Todo("wrap gift", false));
+
+        assertEquals(2, tasks.getTask(0).getId());
+        assertEquals(4, tasks.getTask(1).getId());
+        assertEquals(1, tasks.indexOf(4));
+        assertEquals(-1, tasks.indexOf(1));
+        assertNull(tasks.getTaskById(3));
+    }
+
+    /**
+     * Tests that positions and identifiers stay consistent with a plain list
+     * through many random additions and deletions, including compactions.
+     */
+    @Test
+    public void addAndDeleteTask_randomOperations_matchesArrayList() {
+        List<Task> expected = new ArrayList<>();
+        Random random = new Random(2103);
+        for (int i = 0; i < 20_000; i++) {
+            if (expected.isEmpty() || random.nextInt(5) < 2) {
+                Todo todo = new Todo("task " + i, false);
+                tasks.addTask(todo);
+                expected.add(todo);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertSame(expected.remove(index), tasks.deleteTask(index));
+            }
+            if (i % 1000 == 0) {
+                assertEquals(expected.size(), tasks.size());
+                for (int j = 0; j < expected.size(); j++) {
+                    Task task = expected.get(j);
+                    assertSame(task, tasks.getTask(j));
+                    assertSame(task, tasks.getTaskById(task.getId()));
+                    assertEquals(j, tasks.indexOf(task.getId()));
+                }
+            }
+        }
+        assertEquals(expected, tasks.stream().toList());
+    }
+
+    /**
+     * Tests that the done and undone tasks stay correct through random additions,
+     * deletions, marks and unmarks.
+     */
+    @Test
+    public void streamByStatus_randomOperations_matchesFilter() {
+        List<Task> expected = new ArrayList<>();
+        Random random = new Random(2103);
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(6);
+            if (expected.isEmpty() || operation < 2) {
+                Todo todo = new Todo("task " + i, random.nextBoolean());
+                tasks.addTask(todo);
+                expected.add(todo);
+            } else if (operation < 4) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                tasks.deleteTask(index);
+            } else if (operation == 4) {
+                tasks.markTask(random.nextInt(expected.size()));
+            } else {
+                tasks.unmarkTask(random.nextInt(expected.size()));
+            }
+        }
+        List<Task> done = expected.stream().filter(Task::isDone).toList();
+        List<Task> undone = expected.stream().filter(task -> !task.isDone()).toList();
+        assertEquals(done, tasks.stream(true).toList());
+        assertEquals(undone, tasks.stream(false).toList());
+        assertEquals(done.size(), tasks.countDone());
+    }
+
+    /**
+     * Tests that streaming the done or undone tasks from a position starts at the matching
+     * task at that position, while deleted slots remain and after they are compacted.
+     */
+    @Test
+    public void streamFromByStatus_randomOperations_startsAtPosition() {
+        List<Task> expected = new ArrayList<>();
+        Random random = new Random(2103);
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(6);
+            if (expected.isEmpty() || operation < 2) {
+                Todo todo = new Todo("task " + i, random.nextBoolean());
+                tasks.addTask(todo);
+                expected.add(todo);
+            } else if (operation < 4) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                tasks.deleteTask(index);
+            } else if (operation == 4) {
+                tasks.markTask(random.nextInt(expected.size()));
+            } else {
+                tasks.unmarkTask(random.nextInt(expected.size()));
+            }
+
+            if (i % 50 == 0) {
+                for (boolean isDone : new boolean[] {true, false}) {
+                    List<Task> matching = expected.stream().filter(task -> task.isDone() == isDone).toList();
+                    int from = random.nextInt(matching.size() + 1);
+                    assertEquals(matching.subList(from, Math.min(from + 10, matching.size())),
+                            tasks.streamFrom(isDone, from).limit(10).toList());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package momo.task.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link BkTree} class.
+ */
+public class BkTreeTest {
+
+    /**
+     * Tests that the distance counts insertions, deletions and substitutions.
+     */
+    @Test
+    public void distance_typicalTypos_correctDistance() {
+        assertEquals(1, BkTree.distance("meting", "meeting"));
+        assertEquals(2, BkTree.distance("recieve", "receive"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+        assertEquals(4, BkTree.distance("", "read"));
+    }
+
+    /**
+     * Tests that searches agree with comparing against every word,
+     * through random additions and removals.
+     */
+    @Test
+    public void search_randomOperations_matchesBruteForce() {
+        Random random = new Random(2103);
+        BkTree tree = new BkTree();
+        Set<String> words = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            String word = randomWord(random);
+            if (random.nextInt(3) == 0) {
+                tree.remove(word);
+                words.remove(word);
+            } else {
+                tree.add(word);
+                words.add(word);
+            }
+        }
+        assertEquals(words.size(), tree.size());
+        for (int i = 0; i < 100; i++) {
+            String target = randomWord(random);
+            List<String> expected = new ArrayList<>();
+            for (String word : words) {
+                if (BkTree.distance(target, word) <= 2) {
+                    expected.add(word);
+                }
+            }
+            Set<String> found = new TreeSet<>();
+            for (BkTree.Match match : tree.search(target, 2)) {
+                assertEquals(BkTree.distance(target, match.word), match.distance);
+                found.add(match.word);
+            }
+            assertEquals(expected, new ArrayList<>(found));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package momo.task.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import momo.task.DateTimeCodec;
+import momo.task.Event;
+import momo.task.Task;
+import momo.task.TaskList;
+
+/**
+ * Unit tests for the {@link IntervalIndex} class.
+ */
+public class IntervalIndexTest {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 9, 20, 0, 0);
+
+    private static long minute(int hour) {
+        return DateTimeCodec.toEpochMinute(START.plusHours(hour));
+    }
+
+    /**
+     * Tests that events touching at their ends do not overlap, while events sharing time do.
+     */
+    @Test
+    public void findOverlapping_touchingEvents_notOverlapping() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Event("lecture", START.plusHours(9), START.plusHours(11)));
+        tasks.addTask(new Event("lunch", START.plusHours(12), START.plusHours(13)));
+        IntervalIndex index = tasks.getIntervalIndex();
+        assertArrayEquals(new long[0], index.findOverlapping(minute(11), minute(12)));
+        assertArrayEquals(new long[] {1, 2}, index.findOverlapping(minute(10), minute(13)));
+    }
+
+    /**
+     * Tests that the free slots are the gaps between events of at least the given length.
+     */
+    @Test
+    public void findFreeSlots_dayWithEvents_gapsFound() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Event("lecture", START.plusHours(9), START.plusHours(11)));
+        tasks.addTask(new Event("tutorial", START.plusHours(10), START.plusHours(12)));
+        tasks.addTask(new Event("lunch", START.plusHours(12).plusMinutes(30), START.plusHours(13)));
+        List<long[]> slots = tasks.getIntervalIndex().findFreeSlots(minute(0), minute(24), 60);
+        assertEquals(2, slots.size());
+        assertArrayEquals(new long[] {minute(0), minute(9)}, slots.get(0));
+        assertArrayEquals(new long[] {minute(13), minute(24)}, slots.get(1));
+    }
+
+    /**
+     * Tests that overlap queries agree with a scan through random additions and deletions.
+     */
+    @Test
+    public void findOverlapping_randomOperations_matchesScan() {
+        Random random = new Random(2103);
+        TaskList tasks = new TaskList();
+        IntervalIndex index = tasks.getIntervalIndex();
+        for (int i = 0; i < 5_000; i++) {
+            if (tasks.size() > 0 && random.nextInt(3) == 0) {
+                tasks.deleteTask(random.nextInt(tasks.size()));
+            } else {
+                LocalDateTime from = START.plusMinutes(random.nextInt(10_000));
+                tasks.addTask(new Event("event " + i, from, from.plusMinutes(1 + random.nextInt(500))));
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            long from = DateTimeCodec.toEpochMinute(START) + random.nextInt(10_000);
+            long to = from + 1 + random.nextInt(300);
+            long[] expected = tasks.stream()
+                    .filter(task -> overlaps((Event) task, from, to))
+                    .sorted((first, second) -> {
+                        int byStart = ((Event) first).getFrom().compareTo(((Event) second).getFrom());
+                        return byStart != 0 ? byStart : Long.compare(first.getId(), second.getId());
+                    })
+                    .mapToLong(Task::getId)
+                    .toArray();
+            assertArrayEquals(expected, index.findOverlapping(from, to));
+        }
+    }
+
+    private static boolean overlaps(Event event, long from, long to) {
+        return DateTimeCodec.toEpochMinute(event.getFrom()) < to && DateTimeCodec.toEpochMinute(event.getTo()) > from;
+    }
+}
@@ -0,0 +1,86 @@
+package momo.task.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import momo.task.DateTimeCodec;
+import momo.task.Deadline;
+import momo.task.Event;
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Unit tests for the {@link TimeIndex} class.
+ */
+public class TimeIndexTest {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 9, 1, 0, 0);
+
+    /**
+     * Tests that only deadlines are found, in order of due time.
+     */
+    @Test
+    public void findDeadlines_mixedTasks_orderedByTime() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Deadline("submit report", START.plusDays(3)));
+        tasks.addTask(new Todo("read manga"));
+        tasks.addTask(new Event("hackathon", START.plusDays(2), START.plusDays(4)));
+        tasks.addTask(new Deadline("return book", START.plusDays(1)));
+        TimeIndex index = tasks.getTimeIndex();
+
+        long from = DateTimeCodec.toEpochMinute(START);
+        long to = DateTimeCodec.toEpochMinute(START.plusDays(3));
+        assertArrayEquals(new long[] {4, 1}, index.findDeadlines(from, to));
+        assertArrayEquals(new long[0], index.findDeadlines(to + 1, to + 60));
+    }
+
+    /**
+     * Tests that range queries agree with a scan through random additions and deletions.
+     */
+    @Test
+    public void findDeadlines_randomOperations_matchesScan() {
+        Random random = new Random(2103);
+        TaskList tasks = new TaskList();
+        TimeIndex index = tasks.getTimeIndex();
+        for (int i = 0; i < 5_000; i++) {
+            if (tasks.size() > 0 && random.nextInt(3) == 0) {
+                tasks.deleteTask(random.nextInt(tasks.size()));
+            } else {
+                tasks.addTask(new Deadline("task " + i, START.plusMinutes(random.nextInt(10_000))));
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            long from = DateTimeCodec.toEpochMinute(START) + random.nextInt(10_000);
+            long to = from + random.nextInt(2_000);
+            long[] expected = tasks.stream()
+                    .filter(task -> isDueBetween(task, from, to))
+                    .mapToLong(Task::getId)
+                    .toArray();
+            assertArrayEquals(sortByTimeThenId(tasks, expected), index.findDeadlines(from, to));
+        }
+    }
+
+    private static boolean isDueBetween(Task task, long from, long to) {
+        long minute = DateTimeCodec.toEpochMinute(((Deadline) task).getBy());
+        return minute >= from && minute <= to;
+    }
+
+    /**
+     * Orders identifiers by due time and then by identifier, as the index does.
+     */
+    private static long[] sortByTimeThenId(TaskList tasks, long[] ids) {
+        return Arrays.stream(ids).boxed()
+                .sorted((first, second) -> {
+                    int byTime = ((Deadline) tasks.getTaskById(first)).getBy()
+                            .compareTo(((Deadline) tasks.getTaskById(second)).getBy());
+                    return byTime != 0 ? byTime : Long.compare(first, second);
+                })
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
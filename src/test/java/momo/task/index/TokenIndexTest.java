@@ -0,0 +1,81 @@
+package momo.task.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Unit tests for the {@link TokenIndex} class.
+ */
+public class TokenIndexTest {
+
+    private static TaskList createTaskList() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("read manga"));
+        tasks.addTask(new Todo("Read textbook chapter 1"));
+        tasks.addTask(new Todo("return library book"));
+        tasks.addTask(new Todo("buy manga volume 2"));
+        return tasks;
+    }
+
+    /**
+     * Tests that words joined by AND must all appear, ignoring case.
+     */
+    @Test
+    public void search_and_matchesTasksWithAllWords() {
+        TaskList tasks = createTaskList();
+        long[] ids = tasks.getTokenIndex().search(TokenQuery.parse("READ AND manga"));
+        assertArrayEquals(new long[] {1}, ids);
+    }
+
+    /**
+     * Tests that words joined by OR match tasks containing any of them.
+     */
+    @Test
+    public void search_or_matchesTasksWithAnyWord() {
+        TaskList tasks = createTaskList();
+        long[] ids = tasks.getTokenIndex().search(TokenQuery.parse("textbook OR book"));
+        assertArrayEquals(new long[] {2, 3}, ids);
+    }
+
+    /**
+     * Tests that a word ending in * matches every word with that prefix.
+     */
+    @Test
+    public void search_prefix_matchesWordsWithPrefix() {
+        TaskList tasks = createTaskList();
+        long[] ids = tasks.getTokenIndex().search(TokenQuery.parse("re*"));
+        assertArrayEquals(new long[] {1, 2, 3}, ids);
+    }
+
+    /**
+     * Tests that tasks added and deleted after the index is built are reflected in searches.
+     */
+    @Test
+    public void search_afterAddAndDelete_indexUpdated() {
+        TaskList tasks = createTaskList();
+        TokenIndex index = tasks.getTokenIndex();
+        tasks.deleteTask(0);
+        tasks.addTask(new Todo("lend manga to friend"));
+        assertArrayEquals(new long[] {4, 5}, index.search(TokenQuery.parse("manga*")));
+        assertArrayEquals(new long[] {2}, index.find("read"));
+    }
+
+    /**
+     * Tests that tasks are grouped by the distance of their closest word to a misspelt word.
+     */
+    @Test
+    public void findSimilar_misspeltWord_groupedByDistance() {
+        TaskList tasks = createTaskList();
+        tasks.addTask(new Todo("team meeting"));
+        List<long[]> ids = tasks.getTokenIndex().findSimilar("boook", 2);
+        assertArrayEquals(new long[0], ids.get(0));
+        assertArrayEquals(new long[] {3}, ids.get(1));
+        assertArrayEquals(new long[0], ids.get(2));
+    }
+}
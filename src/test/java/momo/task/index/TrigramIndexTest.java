@@ -0,0 +1,72 @@
+package momo.task.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import momo.task.Task;
+import momo.task.TaskList;
+import momo.task.Todo;
+
+/**
+ * Unit tests for the {@link TrigramIndex} class.
+ */
+public class TrigramIndexTest {
+
+    /**
+     * Tests that a keyword matching part of a word, such as "meet" in "meeting", finds the task.
+     */
+    @Test
+    public void findCandidates_partOfWord_taskFound() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("team meeting"));
+        tasks.addTask(new Todo("read manga"));
+        assertArrayEquals(new long[] {1}, tasks.getTrigramIndex().findCandidates("meet"));
+        assertArrayEquals(new long[0], tasks.getTrigramIndex().findCandidates("Meet"));
+    }
+
+    /**
+     * Tests that the candidates always include every task that contains the keyword,
+     * through random additions and deletions.
+     */
+    @Test
+    public void findCandidates_randomOperations_includesEveryMatch() {
+        Random random = new Random(2103);
+        TaskList tasks = new TaskList();
+        TrigramIndex index = tasks.getTrigramIndex();
+        for (int i = 0; i < 5_000; i++) {
+            if (tasks.size() > 0 && random.nextInt(3) == 0) {
+                tasks.deleteTask(random.nextInt(tasks.size()));
+            } else {
+                tasks.addTask(new Todo(randomText(random, 12)));
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomText(random, 3 + random.nextInt(2));
+            long[] candidates = index.findCandidates(keyword);
+            long[] expected = tasks.stream()
+                    .filter(task -> task.getDescription().contains(keyword))
+                    .mapToLong(Task::getId)
+                    .toArray();
+            long[] found = tasks.stream()
+                    .mapToLong(Task::getId)
+                    .filter(id -> Arrays.binarySearch(candidates, id) >= 0)
+                    .filter(id -> tasks.getTaskById(id).getDescription().contains(keyword))
+                    .toArray();
+            assertArrayEquals(expected, found);
+        }
+        assertTrue(index.estimateMemoryBytes() > 0);
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append("abcd ".charAt(random.nextInt(5)));
+        }
+        return text.toString();
+    }
+}